@@ -84,7 +84,8 @@ public class Angle implements Serializable, Comparable<Angle> {
 
   private final double radians;
 
-  private transient int[] sexagesimalDegreeParts;
+  // Computed lazily, and volatile so that angles can be safely shared between threads
+  private transient volatile int[] sexagesimalDegreeParts;
 
   /**
    * Copy constructor. Copies the value of a provided angle.
@@ -193,22 +194,20 @@ public class Angle implements Serializable, Comparable<Angle> {
         break;
     }
 
-    final StringBuilder representation = new StringBuilder();
+    final StringBuilder representation = new StringBuilder(16);
     final String direction = getDirection();
 
-    representation.append("%02d".formatted(absIntDegrees)).append(Field.DEGREES);
+    if (direction == null && radians < 0) {
+      representation.append('-');
+    }
+    DecimalDigits.appendField(representation, absIntDegrees).append(Field.DEGREES.symbol);
     if (format != AngleFormat.SHORT) {
-      representation.append("%02d".formatted(absIntMinutes)).append(Field.MINUTES);
+      DecimalDigits.appendField(representation, absIntMinutes).append(Field.MINUTES.symbol);
       if (format != AngleFormat.MEDIUM) {
-        representation.append("%02d".formatted(absIntSeconds)).append(Field.SECONDS);
+        DecimalDigits.appendField(representation, absIntSeconds).append(Field.SECONDS.symbol);
       }
     }
-
-    if (direction == null) {
-      if (radians < 0) {
-        representation.insert(0, "-");
-      }
-    } else {
+    if (direction != null) {
       representation.append(direction);
     }
 
@@ -233,10 +232,12 @@ public class Angle implements Serializable, Comparable<Angle> {
    * @return Value of the specified field.
    */
   public final int getField(final Field field) {
-    if (sexagesimalDegreeParts == null) {
-      sexagesimalDegreeParts = sexagesimalSplit(getDegrees());
+    int[] parts = sexagesimalDegreeParts;
+    if (parts == null) {
+      parts = sexagesimalSplit(getDegrees());
+      sexagesimalDegreeParts = parts;
     }
-    return sexagesimalDegreeParts[field.ordinal()];
+    return parts[field.ordinal()];
   }
 
   /**
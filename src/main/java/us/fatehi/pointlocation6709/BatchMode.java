@@ -0,0 +1,273 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.CoordinateFormat;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+/**
+ * Non-interactive conversion of point locations, one per line, from an input stream or file to an
+ * output stream or file. Lines are read in chunks, and chunks are parsed and formatted in parallel,
+ * but written in the order in which they were read. Only a few chunks are held in memory at a
+ * time, so input of any size can be streamed through. Lines that cannot be converted are reported
+ * on standard error with their line number, and blank lines are skipped.
+ *
+ * @author Sualeh Fatehi
+ */
+final class BatchMode {
+
+  /** Format of input lines. */
+  enum InputFormat {
+    /** ISO 6709 compact point locations, such as +401213-0750015/ */
+    ISO6709,
+    /** Latitude and longitude in any form supported by the coordinate parser, separated by , */
+    COORDINATES,
+    /** Signed decimal degrees, such as 40.20361,-75.00417 */
+    DECIMAL_DEGREES;
+  }
+
+  /** Converted lines, and error messages, for a chunk of input. */
+  private static final class ChunkResult {
+
+    private final StringBuilder output = new StringBuilder(1024);
+    private final StringBuilder errors = new StringBuilder();
+    private int convertedCount;
+    private int failedCount;
+  }
+
+  private static final int CHUNK_LINES = 4096;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // Learns the format of coordinates from the first line, and expects it from then on
+  private final CoordinateParser coordinateParser = new CoordinateParser(CoordinateFormat.UNKNOWN);
+  private Path inputPath;
+  private Path outputPath;
+  private InputFormat inputFormat = InputFormat.ISO6709;
+  private PointLocationFormatType formatType = PointLocationFormatType.LONG;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private boolean showStatistics;
+
+  /**
+   * Constructor, from command-line arguments.
+   *
+   * @param args Arguments
+   * @throws IllegalArgumentException If an argument is not recognized, or has a bad value
+   */
+  BatchMode(final String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      final String arg = args[i];
+      switch (arg) {
+        case "--batch":
+          break;
+        case "--input":
+          inputPath = Paths.get(value(args, ++i, arg));
+          break;
+        case "--output":
+          outputPath = Paths.get(value(args, ++i, arg));
+          break;
+        case "--input-format":
+          inputFormat = InputFormat.valueOf(upperCase(value(args, ++i, arg)));
+          break;
+        case "--format":
+          formatType = PointLocationFormatType.valueOf(upperCase(value(args, ++i, arg)));
+          break;
+        case "--threads":
+          threads = Integer.parseInt(value(args, ++i, arg));
+          if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+          }
+          break;
+        case "--stats":
+          showStatistics = true;
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown argument, " + arg);
+      }
+    }
+  }
+
+  /**
+   * Converts every line of input, and writes it to the output.
+   *
+   * @throws IOException On an i/o error
+   */
+  void run() throws IOException {
+    final long startTime = System.nanoTime();
+    long lineCount = 0;
+    long convertedCount = 0;
+    long failedCount = 0;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (final BufferedReader in = openInput();
+        final Writer out = openOutput()) {
+      final int maximumPending = threads * 2;
+      final ArrayDeque<Future<ChunkResult>> pending = new ArrayDeque<>(maximumPending + 1);
+      final PrintStream err = System.err;
+      boolean endOfInput = false;
+      while (!endOfInput || !pending.isEmpty()) {
+        if (!endOfInput) {
+          final String[] lines = new String[CHUNK_LINES];
+          int count = 0;
+          while (count < lines.length) {
+            final String line = in.readLine();
+            if (line == null) {
+              endOfInput = true;
+              break;
+            }
+            lines[count++] = line;
+          }
+          if (count > 0) {
+            final long firstLineNumber = lineCount + 1;
+            final int chunkLineCount = count;
+            pending.add(executor.submit(() -> convert(lines, chunkLineCount, firstLineNumber)));
+            lineCount = lineCount + count;
+          }
+        }
+
+        // Write finished chunks in order, waiting only when enough work has been queued
+        while (!pending.isEmpty()
+            && (endOfInput || pending.size() > maximumPending || pending.peek().isDone())) {
+          final ChunkResult result = join(pending.remove());
+          out.append(result.output);
+          if (result.errors.length() > 0) {
+            err.print(result.errors);
+          }
+          convertedCount = convertedCount + result.convertedCount;
+          failedCount = failedCount + result.failedCount;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (showStatistics) {
+      final double seconds = (System.nanoTime() - startTime) / 1e9;
+      System.err.printf(
+          Locale.ROOT,
+          "Lines: %d, converted: %d, failed: %d, time: %.3f s, throughput: %.0f lines/s%n",
+          lineCount,
+          convertedCount,
+          failedCount,
+          seconds,
+          seconds > 0 ? lineCount / seconds : 0D);
+    }
+  }
+
+  private static ChunkResult join(final Future<ChunkResult> future) throws IOException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted", e);
+    } catch (final ExecutionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private static String upperCase(final String value) {
+    return value.replace('-', '_').toUpperCase(Locale.ROOT);
+  }
+
+  private static String value(final String[] args, final int index, final String arg) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException("No value provided for " + arg);
+    }
+    return args[index];
+  }
+
+  private ChunkResult convert(final String[] lines, final int count, final long firstLineNumber) {
+    final ChunkResult result = new ChunkResult();
+    for (int i = 0; i < count; i++) {
+      final String line = lines[i];
+      if (line.isBlank()) {
+        continue;
+      }
+      final int outputLength = result.output.length();
+      try {
+        final PointLocation pointLocation = parse(line);
+        PointLocationFormatter.formatPointLocation(pointLocation, formatType, result.output);
+        result.output.append(System.lineSeparator());
+        result.convertedCount++;
+      } catch (final ParserException | FormatterException e) {
+        // Drop anything that was written before the failure
+        result.output.setLength(outputLength);
+        result.errors.append("Line ").append(firstLineNumber + i).append(": ");
+        result.errors.append(e.getMessage()).append(System.lineSeparator());
+        result.failedCount++;
+      }
+    }
+    return result;
+  }
+
+  private BufferedReader openInput() throws IOException {
+    if (inputPath == null) {
+      return new BufferedReader(new InputStreamReader(System.in, UTF_8), BUFFER_SIZE);
+    }
+    return new BufferedReader(
+        new InputStreamReader(Files.newInputStream(inputPath), UTF_8), BUFFER_SIZE);
+  }
+
+  private Writer openOutput() throws IOException {
+    if (outputPath == null) {
+      // Do not close standard output, only flush it
+      return new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), BUFFER_SIZE) {
+        @Override
+        public void close() throws IOException {
+          flush();
+        }
+      };
+    }
+    return new BufferedWriter(
+        new OutputStreamWriter(Files.newOutputStream(outputPath), UTF_8), BUFFER_SIZE);
+  }
+
+  private PointLocation parse(final String line) throws ParserException {
+    switch (inputFormat) {
+      case COORDINATES:
+        final int separator = line.indexOf(',');
+        if (separator < 0) {
+          throw new ParserException("No , between latitude and longitude: " + line);
+        }
+        return new PointLocation(
+            coordinateParser.parseLatitude(line, 0, separator),
+            coordinateParser.parseLongitude(line, separator + 1, line.length()));
+      case DECIMAL_DEGREES:
+        return PointLocationParser.parseDecimalDegrees(line);
+      case ISO6709:
+      default:
+        final ParseResult parseResult = PointLocationParser.tryParsePointLocation(line);
+        if (!parseResult.isSuccess()) {
+          throw new ParserException(parseResult.getMessage() + ": " + line);
+        }
+        return parseResult.getPointLocation();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Writes numbers as ASCII digits, straight into a string builder, without string formats or
+ * number formats, and without creating any objects for ordinary values. Used by the string
+ * representations of angles and point locations.
+ *
+ * @author Sualeh Fatehi
+ */
+final class DecimalDigits {
+
+  // Tens and ones digits of every number below 100, for zero-padded fields
+  private static final char[] DIGIT_TENS = new char[100];
+  private static final char[] DIGIT_ONES = new char[100];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGIT_TENS[i] = (char) ('0' + i / 10);
+      DIGIT_ONES[i] = (char) ('0' + i % 10);
+    }
+  }
+
+  // Scaled values below this are exact, and so far apart that rounding ties can be found exactly
+  private static final double MAX_EXACT_SCALED_VALUE = 0x1p50;
+  private static final double[] POWERS_OF_TEN = {1E0, 1E1, 1E2, 1E3, 1E4, 1E5};
+
+  /**
+   * Appends a whole number that is not negative, padded with leading zeros to a width. Nothing is
+   * appended for zero with a width of zero.
+   *
+   * @param buffer Buffer to write to
+   * @param value Value, which is not negative
+   * @param width Minimum number of digits
+   */
+  static void appendDigits(final StringBuilder buffer, final long value, final int width) {
+    if (value == 0 && width == 0) {
+      return;
+    }
+    long divisor = 1;
+    for (int digits = 1; digits < width || value / divisor >= 10; digits++) {
+      divisor = divisor * 10;
+    }
+    for (; divisor > 0; divisor = divisor / 10) {
+      buffer.append((char) ('0' + value / divisor % 10));
+    }
+  }
+
+  /**
+   * Appends a field of an angle with at least two digits, such as <code>05</code>, from the digit
+   * tables for values below 1000.
+   *
+   * @param buffer Buffer to write to
+   * @param value Value of the field
+   * @return The buffer
+   */
+  static StringBuilder appendField(final StringBuilder buffer, final int value) {
+    if (value < 0) {
+      buffer.append('-');
+      appendDigits(buffer, -(long) value, 2);
+      return buffer;
+    }
+    if (value >= 1000) {
+      appendDigits(buffer, value, 2);
+      return buffer;
+    }
+    final int lastTwoDigits = value % 100;
+    if (value >= 100) {
+      buffer.append((char) ('0' + value / 100));
+    }
+    return buffer.append(DIGIT_TENS[lastTwoDigits]).append(DIGIT_ONES[lastTwoDigits]);
+  }
+
+  /**
+   * Appends a value with a fixed number of fraction digits. The value is rounded on its exact
+   * binary value, as decimal formats do. Half up rounding also rounds up when the shortest decimal
+   * representation of the value is a tie, as string formatting does.
+   *
+   * @param buffer Buffer to write to
+   * @param value Value
+   * @param fractionDigits Number of fraction digits, up to 5
+   * @param minimumIntegerDigits Minimum number of integer digits, which may be 0
+   * @param roundingMode Either {@link RoundingMode#HALF_UP} or {@link RoundingMode#HALF_EVEN}
+   */
+  static void appendFixed(
+      final StringBuilder buffer,
+      final double value,
+      final int fractionDigits,
+      final int minimumIntegerDigits,
+      final RoundingMode roundingMode) {
+    final boolean isNegative = value < 0;
+    final double absValue = Math.abs(value);
+    final double scale = POWERS_OF_TEN[fractionDigits];
+    final double product = absValue * scale;
+    if (!(product < MAX_EXACT_SCALED_VALUE)) {
+      // Far too large for an altitude, so the speed does not matter
+      if (roundingMode == RoundingMode.HALF_UP) {
+        buffer.append(String.format(Locale.ROOT, "%." + fractionDigits + "f", value));
+      } else {
+        if (isNegative) {
+          buffer.append('-');
+        }
+        buffer.append(
+            new BigDecimal(absValue).setScale(fractionDigits, roundingMode).toPlainString());
+      }
+      return;
+    }
+
+    // The exact product is the rounded product plus the error, which is exact
+    final double error = Math.fma(absValue, scale, -product);
+    final double floor = Math.floor(product);
+    final double excess = product - floor - 0.5;
+    long scaled = (long) floor;
+    if (excess > -error) {
+      scaled++;
+    } else if (excess == -error) {
+      if (roundingMode == RoundingMode.HALF_UP || (scaled & 1) == 1) {
+        scaled++;
+      }
+    } else if (roundingMode == RoundingMode.HALF_UP && (floor + 0.5) / scale == absValue) {
+      scaled++;
+    }
+
+    if (isNegative) {
+      buffer.append('-');
+    }
+    final long unit = (long) scale;
+    appendDigits(buffer, scaled / unit, minimumIntegerDigits);
+    buffer.append('.');
+    appendDigits(buffer, scaled % unit, fractionDigits);
+  }
+
+  private DecimalDigits() {
+    // Prevent instantiation
+  }
+}
@@ -8,6 +8,8 @@ package us.fatehi.pointlocation6709;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.Date;
 
 import us.fatehi.pointlocation6709.format.FormatterException;
@@ -15,9 +17,11 @@ import us.fatehi.pointlocation6709.format.PointLocationFormatType;
 import us.fatehi.pointlocation6709.format.PointLocationFormatter;
 import us.fatehi.pointlocation6709.parse.ParserException;
 import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.server.PointLocationServer;
 
 /**
- * Main.
+ * Main. Without arguments, prompts for point locations, and prints them. With arguments, converts
+ * point locations in batch mode, one per line, or serves them over HTTP on the local host.
  *
  * @author Sualeh Fatehi
  */
@@ -31,6 +35,36 @@ public final class Main {
    */
   public static void main(final String[] args) throws IOException {
 
+    if (args != null && args.length == 2 && "--serve".equals(args[0])) {
+      final int port;
+      try {
+        port = parsePort(args[1]);
+      } catch (final IllegalArgumentException e) {
+        System.err.println(e.getMessage());
+        printUsage();
+        return;
+      }
+      final PointLocationServer server =
+          new PointLocationServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+      server.start();
+      // The server keeps running until the process is stopped
+      System.out.println("Serving on " + server.getAddress());
+      return;
+    }
+
+    if (args != null && args.length > 0) {
+      final BatchMode batchMode;
+      try {
+        batchMode = new BatchMode(args);
+      } catch (final IllegalArgumentException e) {
+        System.err.println(e.getMessage());
+        printUsage();
+        return;
+      }
+      batchMode.run();
+      return;
+    }
+
     System.out.println(Version.about());
     System.out.println("ISO 6709 geographic point location tester. ");
     System.out.println("For example, enter: +401213-0750015/");
@@ -58,6 +92,40 @@ public final class Main {
     System.out.println("Done. " + new Date());
   }
 
+  /**
+   * Parses a port number, which may be 0 for any free port.
+   *
+   * @throws IllegalArgumentException If the port is not a number, or is out of range
+   */
+  private static int parsePort(final String value) {
+    final int port;
+    try {
+      port = Integer.parseInt(value);
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException("Port is not a number, " + value);
+    }
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("Port must be from 0 to 65535, " + value);
+    }
+    return port;
+  }
+
+  private static void printUsage() {
+    System.err.println(
+        "Usage: [--batch] [--input <file>] [--output <file>] [--input-format <format>]"
+            + " [--format <format>] [--threads <count>] [--stats]");
+    System.err.println("   or: --serve <port>");
+    System.err.println("  --input         Input file, or standard input if not provided");
+    System.err.println("  --output        Output file, or standard output if not provided");
+    System.err.println("  --input-format  iso6709 (default), coordinates, as latitude,longitude,");
+    System.err.println("                  or decimal_degrees");
+    System.err.println("  --format        One of human_long, human_medium, human_short, decimal,");
+    System.err.println("                  long (default), medium, short, decimal_degrees");
+    System.err.println("  --threads       Number of threads, defaults to the number of processors");
+    System.err.println("  --stats         Print throughput and failure counts at the end");
+    System.err.println("  --serve         Serve parse and format requests over HTTP on localhost");
+  }
+
   private Main() {
     // Prevent instantiation
   }
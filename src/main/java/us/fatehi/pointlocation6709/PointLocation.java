@@ -7,6 +7,7 @@ package us.fatehi.pointlocation6709;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.math.RoundingMode;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 
@@ -176,10 +177,12 @@ public final class PointLocation implements Serializable, Comparable<PointLocati
    */
   @Override
   public String toString() {
-    String string = latitude + " " + longitude;
+    final StringBuilder buffer = new StringBuilder(32);
+    buffer.append(latitude).append(' ').append(longitude);
     if (altitude != 0) {
-      string = string + " " + "%1$.3f".formatted(altitude);
+      buffer.append(' ');
+      DecimalDigits.appendFixed(buffer, altitude, 3, 1, RoundingMode.HALF_UP);
     }
-    return string;
+    return buffer.toString();
   }
 }
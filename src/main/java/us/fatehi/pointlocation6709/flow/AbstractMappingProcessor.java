@@ -0,0 +1,303 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.flow;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * A processor that converts each item from an upstream publisher into one item for a single
+ * downstream subscriber, without blocking either of them.
+ *
+ * <p>Items are requested from upstream in batches, and held in a bounded buffer of one batch. The
+ * next batch is requested once three quarters of the previous one has been used, so upstream never
+ * sends more than the buffer can hold. Items are converted and delivered on an executor, only as
+ * fast as the downstream subscriber asks for them, so a slow subscriber slows down the upstream
+ * publisher instead of letting items pile up.
+ *
+ * <p>An item that cannot be converted either fails the stream, which is the default, or is passed
+ * with its exception to an error handler, which acts as a side channel. With an error handler, the
+ * stream carries on, and the failed item does not count against downstream demand.
+ *
+ * @param <T> Type of items received from upstream
+ * @param <R> Type of items sent downstream
+ * @author Sualeh Fatehi
+ */
+public abstract class AbstractMappingProcessor<T, R> implements Flow.Processor<T, R> {
+
+  /** Default number of items requested from upstream at a time. */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final Executor executor;
+  private final int batchSize;
+  private final int replenishSize;
+  private final BiConsumer<? super T, ? super Exception> errorHandler;
+  private final ArrayBlockingQueue<T> buffer;
+
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicInteger drainCount = new AtomicInteger();
+
+  private volatile Flow.Subscription upstream;
+  private volatile Flow.Subscriber<? super R> downstream;
+  private volatile boolean done;
+  private volatile Throwable upstreamError;
+  private volatile Throwable demandError;
+  private volatile boolean cancelled;
+
+  // Only used by the draining thread
+  private int consumedSinceRequest;
+
+  /**
+   * Constructor.
+   *
+   * @param executor Executor to convert and deliver items on
+   * @param batchSize Number of items to request from upstream at a time, which is also the size of
+   *     the buffer
+   * @param errorHandler Receives items that cannot be converted, with the exception, or null to
+   *     fail the stream instead
+   */
+  protected AbstractMappingProcessor(
+      final Executor executor,
+      final int batchSize,
+      final BiConsumer<? super T, ? super Exception> errorHandler) {
+    this.executor = Objects.requireNonNull(executor, "No executor provided");
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.batchSize = batchSize;
+    replenishSize = Math.max(1, batchSize - batchSize / 4);
+    this.errorHandler = errorHandler;
+    buffer = new ArrayBlockingQueue<>(batchSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onComplete() {
+    done = true;
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onError(final Throwable throwable) {
+    upstreamError = Objects.requireNonNull(throwable);
+    done = true;
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onNext(final T item) {
+    Objects.requireNonNull(item);
+    if (!buffer.offer(item)) {
+      // Upstream sent more than was requested
+      upstream.cancel();
+      onError(new IllegalStateException("Upstream publisher did not respect demand"));
+      return;
+    }
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void onSubscribe(final Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription);
+    if (upstream != null) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    subscription.request(batchSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void subscribe(final Flow.Subscriber<? super R> subscriber) {
+    Objects.requireNonNull(subscriber);
+    synchronized (this) {
+      if (downstream == null) {
+        downstream = subscriber;
+      } else {
+        subscriber.onSubscribe(
+            new Flow.Subscription() {
+              @Override
+              public void cancel() {
+                // Nothing to cancel
+              }
+
+              @Override
+              public void request(final long n) {
+                // Nothing to deliver
+              }
+            });
+        subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+        return;
+      }
+    }
+
+    subscriber.onSubscribe(
+        new Flow.Subscription() {
+          @Override
+          public void cancel() {
+            cancelled = true;
+            final Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+              subscription.cancel();
+            }
+          }
+
+          @Override
+          public void request(final long n) {
+            if (n <= 0) {
+              // Signalled by the drain loop, so that it never overlaps with delivery of an item
+              demandError = new IllegalArgumentException("Demand must be positive");
+              drain();
+              return;
+            }
+            requested.getAndAccumulate(n, AbstractMappingProcessor::addCapped);
+            drain();
+          }
+        });
+    drain();
+  }
+
+  /**
+   * Converts an item.
+   *
+   * @param item Item from upstream
+   * @return Converted item for downstream
+   * @throws Exception If the item cannot be converted
+   */
+  protected abstract R map(T item) throws Exception;
+
+  private static long addCapped(final long current, final long added) {
+    final long sum = current + added;
+    return sum < 0 ? Long.MAX_VALUE : sum;
+  }
+
+  /** Schedules delivery on the executor, unless it is already running. */
+  private void drain() {
+    if (downstream == null) {
+      return;
+    }
+    if (drainCount.getAndIncrement() == 0) {
+      executor.execute(this::drainLoop);
+    }
+  }
+
+  private void drainLoop() {
+    final Flow.Subscriber<? super R> subscriber = downstream;
+    int missed = 1;
+    while (true) {
+      final long demand = requested.get();
+      long emitted = 0;
+      while (emitted != demand) {
+        if (isStopped(subscriber)) {
+          return;
+        }
+        final boolean isDone = done;
+        final T item = buffer.poll();
+        if (item == null) {
+          if (isDone) {
+            terminate(subscriber);
+            return;
+          }
+          break;
+        }
+        replenish();
+
+        final R result;
+        try {
+          result = map(item);
+        } catch (final Exception e) {
+          if (errorHandler == null) {
+            fail(subscriber, e);
+            return;
+          }
+          errorHandler.accept(item, e);
+          continue;
+        }
+        try {
+          subscriber.onNext(result);
+        } catch (final RuntimeException e) {
+          // A subscriber that throws breaks the rules, so the stream is stopped
+          fail(subscriber, e);
+          return;
+        }
+        emitted++;
+      }
+
+      if (isStopped(subscriber)) {
+        return;
+      }
+      if (done && buffer.isEmpty()) {
+        terminate(subscriber);
+        return;
+      }
+      if (emitted != 0 && demand != Long.MAX_VALUE) {
+        requested.addAndGet(-emitted);
+      }
+      missed = drainCount.addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /** Cancels upstream, drops any buffered items, and sends the error downstream. */
+  private void fail(final Flow.Subscriber<? super R> subscriber, final Throwable throwable) {
+    cancelled = true;
+    final Flow.Subscription subscription = upstream;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+    buffer.clear();
+    subscriber.onError(throwable);
+  }
+
+  /**
+   * Checks whether delivery has to stop, because downstream cancelled or asked for an invalid
+   * demand, in which case the error is sent downstream.
+   */
+  private boolean isStopped(final Flow.Subscriber<? super R> subscriber) {
+    if (cancelled) {
+      buffer.clear();
+      return true;
+    }
+    final Throwable throwable = demandError;
+    if (throwable != null) {
+      fail(subscriber, throwable);
+      return true;
+    }
+    return false;
+  }
+
+  /** Requests the next batch from upstream, once enough of the buffer has been used. */
+  private void replenish() {
+    consumedSinceRequest++;
+    if (consumedSinceRequest == replenishSize) {
+      consumedSinceRequest = 0;
+      if (!done) {
+        upstream.request(replenishSize);
+      }
+    }
+  }
+
+  private void terminate(final Flow.Subscriber<? super R> subscriber) {
+    cancelled = true;
+    final Throwable throwable = upstreamError;
+    if (throwable == null) {
+      subscriber.onComplete();
+    } else {
+      subscriber.onError(throwable);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+
+/**
+ * A processor that formats a stream of point locations as strings, respecting the demand of its
+ * subscriber. Point locations that cannot be formatted either fail the stream, or are passed to an
+ * error handler, with a {@link FormatterException} that describes the problem.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationFormattingProcessor
+    extends AbstractMappingProcessor<PointLocation, String> {
+
+  private final PointLocationFormatType formatType;
+
+  /**
+   * Constructor. Formats on the common fork-join pool, and fails the stream on the first point
+   * location that cannot be formatted.
+   *
+   * @param formatType Format type
+   */
+  public PointLocationFormattingProcessor(final PointLocationFormatType formatType) {
+    this(formatType, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param formatType Format type
+   * @param executor Executor to format and deliver strings on
+   * @param batchSize Number of point locations to request from upstream at a time
+   * @param errorHandler Receives point locations that cannot be formatted, with the exception, or
+   *     null to fail the stream instead
+   */
+  public PointLocationFormattingProcessor(
+      final PointLocationFormatType formatType,
+      final Executor executor,
+      final int batchSize,
+      final BiConsumer<? super PointLocation, ? super Exception> errorHandler) {
+    super(executor, batchSize, errorHandler);
+    this.formatType = Objects.requireNonNull(formatType, "No format type provided");
+  }
+
+  @Override
+  protected String map(final PointLocation pointLocation) throws FormatterException {
+    return PointLocationFormatter.formatPointLocation(pointLocation, formatType);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.flow;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+/**
+ * A processor that parses a stream of ISO 6709 strings into point locations, respecting the
+ * demand of its subscriber. Strings that cannot be parsed either fail the stream, or are passed to
+ * an error handler, with a {@link ParserException} that describes the problem.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationParsingProcessor
+    extends AbstractMappingProcessor<String, PointLocation> {
+
+  /**
+   * Constructor. Parses on the common fork-join pool, and fails the stream on the first string that
+   * cannot be parsed.
+   */
+  public PointLocationParsingProcessor() {
+    this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor Executor to parse and deliver point locations on
+   * @param batchSize Number of strings to request from upstream at a time
+   * @param errorHandler Receives strings that cannot be parsed, with the exception, or null to fail
+   *     the stream instead
+   */
+  public PointLocationParsingProcessor(
+      final Executor executor,
+      final int batchSize,
+      final BiConsumer<? super String, ? super Exception> errorHandler) {
+    super(executor, batchSize, errorHandler);
+  }
+
+  @Override
+  protected PointLocation map(final String representation) throws ParserException {
+    final ParseResult result = PointLocationParser.tryParsePointLocation(representation);
+    if (!result.isSuccess()) {
+      throw new ParserException(result.getMessage() + ": " + representation);
+    }
+    return result.getPointLocation();
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.format;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Exports point locations in bulk, one per line, to a byte channel or a file. Point locations are
+ * formatted in chunks, in parallel, straight into direct byte buffers, and the buffers are written
+ * in the original order, one large write per chunk. Only a few chunks are held in memory at a time,
+ * and their buffers are reused, so exports of any size run in a small, fixed amount of memory.
+ *
+ * <p>Lines end with <code>\n</code>, and text is UTF-8, which is ASCII for the ISO 6709 formats.
+ * An exporter holds no state between exports, so it can be shared between threads.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationExporter {
+
+  /** Default number of point locations formatted together, as one task. */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+  private static final int INITIAL_BUFFER_CAPACITY = 1 << 16;
+  private static final byte NEWLINE = '\n';
+
+  private final PointLocationFormatType formatType;
+  private final Executor executor;
+  private final int chunkSize;
+  private final int maximumPending;
+
+  /**
+   * Constructor. Formats on the common fork-join pool, in chunks of the default size.
+   *
+   * @param formatType Format type
+   */
+  public PointLocationExporter(final PointLocationFormatType formatType) {
+    this(formatType, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructor. The number of chunks formatted at the same time is the parallelism of the
+   * executor, if it is a fork-join pool or a bounded thread pool, and otherwise the number of
+   * processors.
+   *
+   * @param formatType Format type
+   * @param executor Executor to format chunks on
+   * @param chunkSize Number of point locations formatted together, as one task
+   */
+  public PointLocationExporter(
+      final PointLocationFormatType formatType, final Executor executor, final int chunkSize) {
+    this(formatType, executor, chunkSize, parallelism(executor));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param formatType Format type
+   * @param executor Executor to format chunks on
+   * @param chunkSize Number of point locations formatted together, as one task
+   * @param parallelism Number of chunks formatted at the same time, which should match the number
+   *     of threads of the executor
+   */
+  public PointLocationExporter(
+      final PointLocationFormatType formatType,
+      final Executor executor,
+      final int chunkSize,
+      final int parallelism) {
+    this.formatType = Objects.requireNonNull(formatType, "No format type provided");
+    this.executor = Objects.requireNonNull(executor, "No executor provided");
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    this.chunkSize = chunkSize;
+    // Each thread has a chunk to format, and another one queued, so that it never waits
+    maximumPending = (int) Math.min(parallelism * 2L, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Exports point locations to a byte channel. The channel is not closed.
+   *
+   * @param pointLocations Point locations to export
+   * @param channel Channel to write to
+   * @return Number of bytes written
+   * @throws FormatterException If a point location cannot be formatted, in which case the lines
+   *     before it may have been written
+   * @throws IOException On an exception from the channel
+   */
+  public long export(
+      final Collection<? extends PointLocation> pointLocations, final WritableByteChannel channel)
+      throws FormatterException, IOException {
+    if (pointLocations == null) {
+      throw new FormatterException("No point locations provided");
+    }
+    return export(pointLocations.toArray(new PointLocation[0]), channel);
+  }
+
+  /**
+   * Exports point locations to a file, replacing it if it exists.
+   *
+   * @param pointLocations Point locations to export
+   * @param path File to write to
+   * @return Number of bytes written
+   * @throws FormatterException If a point location cannot be formatted, in which case the lines
+   *     before it may have been written
+   * @throws IOException On an exception from the file
+   */
+  public long export(final Collection<? extends PointLocation> pointLocations, final Path path)
+      throws FormatterException, IOException {
+    if (pointLocations == null) {
+      throw new FormatterException("No point locations provided");
+    }
+    return export(pointLocations.toArray(new PointLocation[0]), path);
+  }
+
+  /**
+   * Exports point locations to a byte channel. The channel is not closed.
+   *
+   * @param pointLocations Point locations to export
+   * @param channel Channel to write to
+   * @return Number of bytes written
+   * @throws FormatterException If a point location cannot be formatted, in which case the lines
+   *     before it may have been written
+   * @throws IOException On an exception from the channel
+   */
+  public long export(final PointLocation[] pointLocations, final WritableByteChannel channel)
+      throws FormatterException, IOException {
+    if (pointLocations == null) {
+      throw new FormatterException("No point locations provided");
+    }
+    if (channel == null) {
+      throw new FormatterException("Nowhere to write the formatted value");
+    }
+
+    final ConcurrentLinkedQueue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    final ArrayDeque<CompletableFuture<ByteBuffer>> pending = new ArrayDeque<>();
+    long byteCount = 0;
+    int next = 0;
+    try {
+      while (next < pointLocations.length || !pending.isEmpty()) {
+        // Keep enough chunks in progress to use every thread
+        while (next < pointLocations.length && pending.size() < maximumPending) {
+          final int from = next;
+          final int to = (int) Math.min((long) from + chunkSize, pointLocations.length);
+          pending.add(
+              CompletableFuture.supplyAsync(
+                  () -> formatChunk(pointLocations, from, to, freeBuffers.poll()), executor));
+          next = to;
+        }
+
+        // Write the oldest chunk, so that lines stay in order
+        final ByteBuffer buffer = join(pending.remove());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          byteCount = byteCount + channel.write(buffer);
+        }
+        freeBuffers.add(buffer);
+      }
+    } finally {
+      for (final CompletableFuture<ByteBuffer> future : pending) {
+        future.cancel(false);
+      }
+    }
+    return byteCount;
+  }
+
+  /**
+   * Exports point locations to a file, replacing it if it exists.
+   *
+   * @param pointLocations Point locations to export
+   * @param path File to write to
+   * @return Number of bytes written
+   * @throws FormatterException If a point location cannot be formatted, in which case the lines
+   *     before it may have been written
+   * @throws IOException On an exception from the file
+   */
+  public long export(final PointLocation[] pointLocations, final Path path)
+      throws FormatterException, IOException {
+    // Check before the file is opened, since opening it truncates it
+    if (pointLocations == null) {
+      throw new FormatterException("No point locations provided");
+    }
+    if (path == null) {
+      throw new FormatterException("Nowhere to write the formatted value");
+    }
+    try (final FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return export(pointLocations, channel);
+    }
+  }
+
+  private static ByteBuffer grow(final ByteBuffer buffer) {
+    final ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+    buffer.flip();
+    grown.put(buffer);
+    return grown;
+  }
+
+  private static ByteBuffer join(final CompletableFuture<ByteBuffer> future)
+      throws FormatterException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof FormatterException) {
+        throw (FormatterException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** Finds the number of threads of an executor, where it can be found. */
+  private static int parallelism(final Executor executor) {
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    if (executor instanceof ThreadPoolExecutor) {
+      final int maximumPoolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+      // Unbounded pools, such as cached thread pools, add threads on demand
+      if (maximumPoolSize < Integer.MAX_VALUE) {
+        return maximumPoolSize;
+      }
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /** Formats a chunk of point locations, one per line, into a buffer, which is grown as needed. */
+  private ByteBuffer formatChunk(
+      final PointLocation[] pointLocations,
+      final int from,
+      final int to,
+      final ByteBuffer freeBuffer) {
+    ByteBuffer buffer;
+    if (freeBuffer == null) {
+      buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+    } else {
+      buffer = freeBuffer;
+      buffer.clear();
+    }
+
+    for (int i = from; i < to; i++) {
+      final PointLocation pointLocation = pointLocations[i];
+      if (pointLocation == null) {
+        throw new CompletionException(
+            new FormatterException("No point location provided, at index " + i));
+      }
+      // A line that does not fit leaves the position unchanged, so it can be formatted again
+      while (true) {
+        try {
+          PointLocationFormatter.formatPointLocation(pointLocation, formatType, buffer);
+          break;
+        } catch (final BufferOverflowException e) {
+          buffer = grow(buffer);
+        } catch (final FormatterException e) {
+          throw new CompletionException(e);
+        }
+      }
+      if (!buffer.hasRemaining()) {
+        buffer = grow(buffer);
+      }
+      buffer.put(NEWLINE);
+    }
+    return buffer;
+  }
+}
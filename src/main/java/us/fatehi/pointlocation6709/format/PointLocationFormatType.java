@@ -17,5 +17,6 @@ public enum PointLocationFormatType {
   DECIMAL,
   LONG,
   MEDIUM,
-  SHORT;
+  SHORT,
+  DECIMAL_DEGREES;
 }
@@ -5,9 +5,12 @@
  */
 package us.fatehi.pointlocation6709.format;
 
-import java.text.NumberFormat;
-
-import org.apache.commons.lang3.StringUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Locale;
 
 import us.fatehi.pointlocation6709.Angle;
 import us.fatehi.pointlocation6709.Angle.AngleFormat;
@@ -18,10 +21,36 @@ import us.fatehi.pointlocation6709.PointLocation;
 /**
  * Formats point locations to strings.
  *
+ * <p>Every format can be written directly to a caller-supplied {@link Appendable} or {@link
+ * StringBuilder}. Numbers are written digit by digit, without temporary strings or number formats,
+ * so formatting into a large buffer creates no garbage. Digits are always ASCII, and the decimal
+ * point is always <code>.</code>, as ISO 6709 requires, whatever the default locale. Numbers are
+ * rounded on their exact binary values, so the output is the same as that of the number formats
+ * that the formatter used to use.
+ *
  * @author Sualeh Fatehi
  */
 public final class PointLocationFormatter {
 
+  // Coordinates with more fraction digits than this are not exact as a scaled long
+  private static final int MAX_EXACT_FRACTION_DIGITS = 13;
+  // Scaled values below this are exact, and so far apart that rounding ties can be found exactly
+  private static final double MAX_EXACT_SCALED_VALUE = 0x1p50;
+  private static final double[] POWERS_OF_TEN = {1E0, 1E1, 1E2, 1E3, 1E4, 1E5};
+  private static final int ALTITUDE_FRACTION_DIGITS = 5;
+  private static final int DECIMAL_FRACTION_DIGITS = 5;
+  private static final int HUMAN_ALTITUDE_FRACTION_DIGITS = 3;
+  // Tens and ones digits of every number below 100, for zero-padded fields
+  private static final char[] DIGIT_TENS = new char[100];
+  private static final char[] DIGIT_ONES = new char[100];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGIT_TENS[i] = (char) ('0' + i / 10);
+      DIGIT_ONES[i] = (char) ('0' + i % 10);
+    }
+  }
+
   /**
    * Formats a latitude as an ISO 6709 string.
    *
@@ -32,37 +61,66 @@ public final class PointLocationFormatter {
    */
   public static String formatLatitude(
       final Latitude latitude, final PointLocationFormatType formatType) throws FormatterException {
+    final StringBuilder buffer = new StringBuilder(16);
+    formatLatitude(latitude, formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Formats a latitude as an ISO 6709 string, into an appendable.
+   *
+   * @param latitude Latitude to format
+   * @param formatType Format type
+   * @param out Appendable to write to
+   * @throws FormatterException On an exception
+   * @throws IOException On an exception from the appendable
+   */
+  public static void formatLatitude(
+      final Latitude latitude, final PointLocationFormatType formatType, final Appendable out)
+      throws FormatterException, IOException {
     if (latitude == null) {
       throw new FormatterException("No point location provided");
     }
-    if (formatType == null) {
-      throw new FormatterException("No format type provided");
-    }
+    checkFormatType(formatType, out);
 
-    final String formatted;
     switch (formatType) {
       case HUMAN_LONG:
-        formatted = latitude.toString();
+        appendHuman(out, latitude, AngleFormat.LONG);
         break;
       case HUMAN_MEDIUM:
-        formatted = formatLatitudeHumanMedium(latitude);
+        appendHuman(out, latitude, AngleFormat.MEDIUM);
         break;
       case LONG:
-        formatted = formatLatitudeLong(latitude);
-        break;
       case MEDIUM:
-        formatted = formatLatitudeMedium(latitude);
-        break;
       case SHORT:
-        formatted = formatLatitudeShort(latitude);
-        break;
       case DECIMAL:
-        formatted = formatLatitudeWithDecimals(latitude);
+        appendCompact(out, latitude, formatType);
+        break;
+      case DECIMAL_DEGREES:
+        appendDecimalDegrees(out, latitude);
         break;
       default:
         throw new FormatterException("Unsupported format type");
     }
-    return formatted;
+  }
+
+  /**
+   * Formats a latitude as an ISO 6709 string, into a string builder.
+   *
+   * @param latitude Latitude to format
+   * @param formatType Format type
+   * @param buffer String builder to append to
+   * @throws FormatterException On an exception
+   */
+  public static void formatLatitude(
+      final Latitude latitude, final PointLocationFormatType formatType, final StringBuilder buffer)
+      throws FormatterException {
+    try {
+      formatLatitude(latitude, formatType, (Appendable) buffer);
+    } catch (final IOException e) {
+      // A string builder never throws
+      throw new UncheckedIOException(e);
+    }
   }
 
   /**
@@ -76,37 +134,68 @@ public final class PointLocationFormatter {
   public static String formatLongitude(
       final Longitude longitude, final PointLocationFormatType formatType)
       throws FormatterException {
+    final StringBuilder buffer = new StringBuilder(16);
+    formatLongitude(longitude, formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Formats a longitude as an ISO 6709 string, into an appendable.
+   *
+   * @param longitude Longitude to format
+   * @param formatType Format type
+   * @param out Appendable to write to
+   * @throws FormatterException On an exception
+   * @throws IOException On an exception from the appendable
+   */
+  public static void formatLongitude(
+      final Longitude longitude, final PointLocationFormatType formatType, final Appendable out)
+      throws FormatterException, IOException {
     if (longitude == null) {
       throw new FormatterException("No point location provided");
     }
-    if (formatType == null) {
-      throw new FormatterException("No format type provided");
-    }
+    checkFormatType(formatType, out);
 
-    final String formatted;
     switch (formatType) {
       case HUMAN_LONG:
-        formatted = longitude.toString();
+        appendHuman(out, longitude, AngleFormat.LONG);
         break;
       case HUMAN_MEDIUM:
-        formatted = formatLongitudeHumanMedium(longitude);
+        appendHuman(out, longitude, AngleFormat.MEDIUM);
         break;
       case LONG:
-        formatted = formatLongitudeLong(longitude);
-        break;
       case MEDIUM:
-        formatted = formatLongitudeMedium(longitude);
-        break;
       case SHORT:
-        formatted = formatLongitudeShort(longitude);
-        break;
       case DECIMAL:
-        formatted = formatLongitudeWithDecimals(longitude);
+        appendCompact(out, longitude, formatType);
+        break;
+      case DECIMAL_DEGREES:
+        appendDecimalDegrees(out, longitude);
         break;
       default:
         throw new FormatterException("Unsupported format type");
     }
-    return formatted;
+  }
+
+  /**
+   * Formats a longitude as an ISO 6709 string, into a string builder.
+   *
+   * @param longitude Longitude to format
+   * @param formatType Format type
+   * @param buffer String builder to append to
+   * @throws FormatterException On an exception
+   */
+  public static void formatLongitude(
+      final Longitude longitude,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws FormatterException {
+    try {
+      formatLongitude(longitude, formatType, (Appendable) buffer);
+    } catch (final IOException e) {
+      // A string builder never throws
+      throw new UncheckedIOException(e);
+    }
   }
 
   /**
@@ -120,306 +209,526 @@ public final class PointLocationFormatter {
   public static String formatPointLocation(
       final PointLocation pointLocation, final PointLocationFormatType formatType)
       throws FormatterException {
+    final StringBuilder buffer = new StringBuilder(40);
+    formatPointLocation(pointLocation, formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Formats a point location as an ISO 6709 or human readable string, into an appendable.
+   *
+   * @param pointLocation Point location to format
+   * @param formatType Format type
+   * @param out Appendable to write to
+   * @throws FormatterException On an exception
+   * @throws IOException On an exception from the appendable
+   */
+  public static void formatPointLocation(
+      final PointLocation pointLocation,
+      final PointLocationFormatType formatType,
+      final Appendable out)
+      throws FormatterException, IOException {
     if (pointLocation == null) {
       throw new FormatterException("No point location provided");
     }
-    if (formatType == null) {
-      throw new FormatterException("No format type provided");
-    }
+    checkFormatType(formatType, out);
 
-    final String formatted;
+    final Latitude latitude = pointLocation.getLatitude();
+    final Longitude longitude = pointLocation.getLongitude();
+    final double altitude = pointLocation.getAltitude();
     switch (formatType) {
       case HUMAN_LONG:
-        formatted = pointLocation.toString();
-        break;
       case HUMAN_MEDIUM:
-        formatted = formatHumanMedium(pointLocation);
-        break;
       case HUMAN_SHORT:
-        formatted = formatHumanShort(pointLocation);
+        final AngleFormat angleFormat;
+        if (formatType == PointLocationFormatType.HUMAN_LONG) {
+          angleFormat = AngleFormat.LONG;
+        } else if (formatType == PointLocationFormatType.HUMAN_MEDIUM) {
+          angleFormat = AngleFormat.MEDIUM;
+        } else {
+          angleFormat = AngleFormat.SHORT;
+        }
+        appendHuman(out, latitude, angleFormat);
+        out.append(' ');
+        appendHuman(out, longitude, angleFormat);
+        if (altitude != 0) {
+          out.append(' ');
+          if (formatType == PointLocationFormatType.HUMAN_LONG) {
+            // As for the string representation of a point location
+            appendFixed(out, altitude, HUMAN_ALTITUDE_FRACTION_DIGITS, 1, RoundingMode.HALF_UP);
+          } else {
+            appendAltitudeWithSign(out, altitude);
+          }
+        }
         break;
       case LONG:
-        formatted = formatISO6709Long(pointLocation);
-        break;
       case MEDIUM:
-        formatted = formatISO6709Medium(pointLocation);
-        break;
       case SHORT:
-        formatted = formatISO6709Short(pointLocation);
-        break;
       case DECIMAL:
-        formatted = formatISO6709WithDecimals(pointLocation);
+        appendCompact(out, latitude, formatType);
+        appendCompact(out, longitude, formatType);
+        appendAltitudeWithSign(out, altitude);
+        final String crs = pointLocation.getCoordinateReferenceSystemIdentifier();
+        if (crs != null && !crs.isBlank()) {
+          out.append("CRS").append(crs);
+        }
+        out.append('/');
+        break;
+      case DECIMAL_DEGREES:
+        appendDecimalDegrees(out, latitude);
+        out.append(',');
+        appendDecimalDegrees(out, longitude);
+        if (altitude != 0) {
+          out.append(',');
+          appendShortestDecimal(out, altitude);
+        }
         break;
       default:
         throw new FormatterException("Unsupported format type");
     }
-
-    return formatted;
-  }
-
-  private static String formatAltitudeWithSign(final double value) {
-    if (Math.abs(value) > 1E-6) {
-      return (Math.signum(value) < 0 ? "-" : "+") + getNumberFormat(1).format(Math.abs(value));
-    } else {
-      return "";
-    }
   }
 
-  private static String formatCoordinateReferenceSystemIdentifier(final String crs) {
-    if (StringUtils.isNotBlank(crs)) {
-      return "CRS" + crs;
-    } else {
-      return "";
+  /**
+   * Formats a point location as ISO 6709 or human readable text, straight into a byte array, as
+   * UTF-8 bytes. The ISO 6709 formats are ASCII, unless the coordinate reference system identifier
+   * is not, so each character is one byte. No string is created, and no charset encoder is used.
+   *
+   * <p>Bytes are written as the value is formatted, so if the formatted value does not fit, the
+   * bytes from the offset to the end of the array may already have been overwritten with the part
+   * of the value that did fit.
+   *
+   * @param pointLocation Point location to format
+   * @param formatType Format type
+   * @param bytes Byte array to write to
+   * @param offset Index in the array of the first byte to write
+   * @return Number of bytes written
+   * @throws FormatterException On an exception
+   * @throws IndexOutOfBoundsException If the offset is out of bounds, or the formatted value does
+   *     not fit in the rest of the array, in which case the rest of the array may have been
+   *     overwritten
+   */
+  public static int formatPointLocation(
+      final PointLocation pointLocation,
+      final PointLocationFormatType formatType,
+      final byte[] bytes,
+      final int offset)
+      throws FormatterException {
+    if (bytes == null) {
+      throw new FormatterException("Nowhere to write the formatted value");
     }
-  }
-
-  private static String formatDecimalMinutesString(final Angle angle) {
-    final double degrees = Math.abs(angle.getDegrees());
-    final double absMinutes = degrees - (int) degrees;
-    return getNumberFormat(0).format(absMinutes);
+    return formatPointLocation(pointLocation, formatType, new Utf8ByteSink(bytes, offset));
   }
 
   /**
-   * Formats a point location as an human readable string.
+   * Formats a point location as ISO 6709 or human readable text, straight into a heap or direct
+   * byte buffer, as UTF-8 bytes. Bytes are written from the position of the buffer, and the
+   * position is moved past them, so that the buffer can be filled with many point locations, and
+   * then flipped and written to a channel. The ISO 6709 formats are ASCII, unless the coordinate
+   * reference system identifier is not, so each character is one byte. No string is created, and
+   * no charset encoder is used.
+   *
+   * <p>Bytes are written as the value is formatted, so if the formatted value does not fit, the
+   * position of the buffer is not changed, but the bytes between the position and the limit may
+   * already have been overwritten with the part of the value that did fit.
    *
    * @param pointLocation Point location to format
-   * @return Formatted string
+   * @param formatType Format type
+   * @param buffer Byte buffer to write to
+   * @return Number of bytes written
+   * @throws FormatterException On an exception
+   * @throws java.nio.BufferOverflowException If the formatted value does not fit in the remaining
+   *     bytes of the buffer, in which case the remaining bytes may have been overwritten
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only
    */
-  private static String formatHumanMedium(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string =
-        formatLatitudeHumanMedium(latitude) + " " + formatLongitudeHumanMedium(longitude);
-    final double altitude = pointLocation.getAltitude();
-    if (altitude != 0) {
-      string = string + " " + formatAltitudeWithSign(altitude);
+  public static int formatPointLocation(
+      final PointLocation pointLocation,
+      final PointLocationFormatType formatType,
+      final ByteBuffer buffer)
+      throws FormatterException {
+    if (buffer == null) {
+      throw new FormatterException("Nowhere to write the formatted value");
     }
-    return string;
+    return formatPointLocation(pointLocation, formatType, new Utf8ByteSink(buffer));
   }
 
   /**
-   * Formats a point location as an human readable string.
+   * Formats a point location as an ISO 6709 or human readable string, into a string builder.
    *
    * @param pointLocation Point location to format
-   * @return Formatted string
+   * @param formatType Format type
+   * @param buffer String builder to append to
+   * @throws FormatterException On an exception
    */
-  private static String formatHumanShort(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string = formatLatitudeHumanShort(latitude) + " " + formatLongitudeHumanShort(longitude);
-    final double altitude = pointLocation.getAltitude();
-    if (altitude != 0) {
-      string = string + " " + formatAltitudeWithSign(altitude);
+  public static void formatPointLocation(
+      final PointLocation pointLocation,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws FormatterException {
+    try {
+      formatPointLocation(pointLocation, formatType, (Appendable) buffer);
+    } catch (final IOException e) {
+      // A string builder never throws
+      throw new UncheckedIOException(e);
     }
-    return string;
   }
 
-  private static String formatIntegerDegreesString(final Angle angle) {
-    String sign = angle.getRadians() < 0 ? "-" : "+";
-    final int intDegrees = Math.abs(angle.getField(Angle.Field.DEGREES));
+  /** Appends an altitude with a sign and five fraction digits, unless it is too small to show. */
+  private static void appendAltitudeWithSign(final Appendable out, final double value)
+      throws IOException {
+    if (Math.abs(value) > 1E-6) {
+      out.append(Math.signum(value) < 0 ? '-' : '+');
+      appendFixed(out, Math.abs(value), ALTITUDE_FRACTION_DIGITS, 1, RoundingMode.HALF_EVEN);
+    }
+  }
 
-    final int fieldlength;
-    if (angle instanceof Latitude) {
-      fieldlength = 2;
-    } else if (angle instanceof Longitude) {
-      // According to the ISO6709 standard,
-      // the 180th meridian is negative
-      if (intDegrees == 180) {
-        sign = "-";
-      }
-      fieldlength = 3;
-    } else {
-      fieldlength = 0;
+  /**
+   * Appends an angle in one of the compact ISO 6709 formats, as signed degrees, followed by
+   * minutes and seconds, or by a fraction of a degree.
+   */
+  private static void appendCompact(
+      final Appendable out, final Angle angle, final PointLocationFormatType formatType)
+      throws IOException {
+    final boolean isLongitude = angle instanceof Longitude;
+    if (formatType == PointLocationFormatType.DECIMAL) {
+      // Whole degrees and the fraction both come from the same rounded value, so a fraction that
+      // rounds up to a whole degree carries into the degrees
+      final long steps =
+          toScaled(Math.abs(angle.getDegrees()), DECIMAL_FRACTION_DIGITS, RoundingMode.HALF_EVEN);
+      final long stepsPerDegree = (long) POWERS_OF_TEN[DECIMAL_FRACTION_DIGITS];
+      final int degrees = (int) (steps / stepsPerDegree);
+      // According to the ISO6709 standard, the 180th meridian is negative
+      out.append(angle.getRadians() < 0 || isLongitude && degrees == 180 ? '-' : '+');
+      appendDigits(out, degrees, isLongitude ? 3 : 2);
+      out.append('.');
+      appendDigits(out, steps % stepsPerDegree, DECIMAL_FRACTION_DIGITS);
+      return;
     }
 
-    final String degrees = getIntegerFormat(fieldlength).format(intDegrees);
+    final long totalSeconds = toRoundedSeconds(angle.getDegrees());
+    final int degrees = (int) (totalSeconds / 3600);
+    int minutes = (int) (totalSeconds / 60 % 60);
+    final int seconds = (int) (totalSeconds % 60);
 
-    return sign + degrees;
+    // According to the ISO6709 standard, the 180th meridian is negative
+    final boolean isNegative = angle.getRadians() < 0 || isLongitude && degrees == 180;
+    out.append(isNegative ? '-' : '+');
+    appendDigits(out, degrees, isLongitude ? 3 : 2);
+    switch (formatType) {
+      case LONG:
+        appendField(out, minutes);
+        appendField(out, seconds);
+        break;
+      case MEDIUM:
+        if (minutes < 59 && seconds >= 30) {
+          minutes = minutes + 1;
+        }
+        appendField(out, minutes);
+        break;
+      case SHORT:
+      default:
+        break;
+    }
   }
 
   /**
-   * Formats a point location as an ISO 6709 string.
-   *
-   * @param pointLocation Point location to format
-   * @return Formatted string
+   * Appends an angle in signed decimal degrees, with the fewest fraction digits that parse back to
+   * exactly the same angle. Degrees are computed from radians, so they often carry noise in the
+   * last few digits, which this drops.
    */
-  private static String formatISO6709Long(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string = formatLatitudeLong(latitude) + formatLongitudeLong(longitude);
-    final double altitude = pointLocation.getAltitude();
-    string = string + formatAltitudeWithSign(altitude);
-    final String crs = pointLocation.getCoordinateReferenceSystemIdentifier();
-    string = string + formatCoordinateReferenceSystemIdentifier(crs);
-    return string + "/";
+  private static void appendDecimalDegrees(final Appendable out, final Angle angle)
+      throws IOException {
+    final double radians = angle.getRadians();
+    final double degrees = angle.getDegrees();
+    final double absDegrees = Math.abs(degrees);
+    long scale = 1;
+    for (int fractionDigits = 0; fractionDigits <= MAX_EXACT_FRACTION_DIGITS; fractionDigits++) {
+      final long scaled = Math.round(absDegrees * scale);
+      // Parsing divides by the same power of ten, and converts to an angle in the same way
+      final double candidate = Math.copySign(scaled / (double) scale, degrees);
+      if (candidate * Math.PI / 180D == radians) {
+        if (degrees < 0 && scaled != 0) {
+          out.append('-');
+        }
+        appendScaled(out, scaled, scale, fractionDigits);
+        return;
+      }
+      scale = scale * 10;
+    }
+
+    // Otherwise, use the nearest double that converts back to the same angle
+    double up = degrees;
+    double down = degrees;
+    for (int i = 0; i < 64; i++) {
+      if (up * Math.PI / 180D == radians) {
+        appendPlainDecimal(out, up);
+        return;
+      }
+      if (down * Math.PI / 180D == radians) {
+        appendPlainDecimal(out, down);
+        return;
+      }
+      up = Math.nextUp(up);
+      down = Math.nextDown(down);
+    }
+    appendPlainDecimal(out, degrees);
   }
 
   /**
-   * Formats a point location as an ISO 6709 string.
-   *
-   * @param pointLocation Point location to format
-   * @return Formatted string
+   * Appends a whole number in decimal, padded with leading zeros to a width. Nothing is appended
+   * for zero with a width of zero.
    */
-  private static String formatISO6709Medium(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string = formatLatitudeMedium(latitude) + formatLongitudeMedium(longitude);
-    final double altitude = pointLocation.getAltitude();
-    string = string + formatAltitudeWithSign(altitude);
-    final String crs = pointLocation.getCoordinateReferenceSystemIdentifier();
-    string = string + formatCoordinateReferenceSystemIdentifier(crs);
-    return string + "/";
+  private static void appendDigits(final Appendable out, final long value, final int width)
+      throws IOException {
+    if (value == 0 && width == 0) {
+      return;
+    }
+    long divisor = 1;
+    for (int digits = 1; digits < width || value / divisor >= 10; digits++) {
+      divisor = divisor * 10;
+    }
+    for (; divisor > 0; divisor = divisor / 10) {
+      out.append((char) ('0' + value / divisor % 10));
+    }
   }
 
-  /**
-   * Formats a point location as an ISO 6709 string.
-   *
-   * @param pointLocation Point location to format
-   * @return Formatted string
-   */
-  private static String formatISO6709Short(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string = formatLatitudeShort(latitude) + formatLongitudeShort(longitude);
-    final double altitude = pointLocation.getAltitude();
-    string = string + formatAltitudeWithSign(altitude);
-    final String crs = pointLocation.getCoordinateReferenceSystemIdentifier();
-    string = string + formatCoordinateReferenceSystemIdentifier(crs);
-    return string + "/";
+  /** Appends a value with at least two digits, from the digit tables for values below 1000. */
+  private static void appendField(final Appendable out, final int value) throws IOException {
+    if (value >= 1000) {
+      appendDigits(out, value, 2);
+      return;
+    }
+    final int lastTwoDigits = value % 100;
+    if (value >= 100) {
+      out.append((char) ('0' + value / 100));
+    }
+    out.append(DIGIT_TENS[lastTwoDigits]).append(DIGIT_ONES[lastTwoDigits]);
   }
 
   /**
-   * Formats a point location as an ISO 6709 string, using decimals.
-   *
-   * @param pointLocation Point location to format
-   * @return Formatted string
+   * Appends a value with a fixed number of fraction digits. The value is rounded on its exact
+   * binary value, as decimal formats do. Half up rounding also rounds up when the shortest decimal
+   * representation of the value is a tie, as string formatting does.
    */
-  private static String formatISO6709WithDecimals(final PointLocation pointLocation) {
-    final Latitude latitude = pointLocation.getLatitude();
-    final Longitude longitude = pointLocation.getLongitude();
-    String string = formatLatitudeWithDecimals(latitude) + formatLongitudeWithDecimals(longitude);
-    final double altitude = pointLocation.getAltitude();
-    string = string + formatAltitudeWithSign(altitude);
-    final String crs = pointLocation.getCoordinateReferenceSystemIdentifier();
-    string = string + formatCoordinateReferenceSystemIdentifier(crs);
-    return string + "/";
+  private static void appendFixed(
+      final Appendable out,
+      final double value,
+      final int fractionDigits,
+      final int minimumIntegerDigits,
+      final RoundingMode roundingMode)
+      throws IOException {
+    final boolean isNegative = value < 0;
+    final double absValue = Math.abs(value);
+    final double scale = POWERS_OF_TEN[fractionDigits];
+    final double product = absValue * scale;
+    if (!(product < MAX_EXACT_SCALED_VALUE)) {
+      // Far too large for an altitude, so the speed does not matter
+      if (roundingMode == RoundingMode.HALF_UP) {
+        out.append(String.format(Locale.ROOT, "%." + fractionDigits + "f", value));
+      } else {
+        if (isNegative) {
+          out.append('-');
+        }
+        out.append(new BigDecimal(absValue).setScale(fractionDigits, roundingMode).toPlainString());
+      }
+      return;
+    }
+
+    final long scaled = toScaled(absValue, fractionDigits, roundingMode);
+    if (isNegative) {
+      out.append('-');
+    }
+    final long unit = (long) scale;
+    appendDigits(out, scaled / unit, minimumIntegerDigits);
+    out.append('.');
+    appendDigits(out, scaled % unit, fractionDigits);
   }
 
   /**
-   * Formats a latitude as an human readable string.
-   *
-   * @param latitude Latitude to format
-   * @return Formatted string
+   * Appends an angle in a human readable format, such as <code>40°12'13"N</code>, in the same way
+   * as {@link Angle#format(AngleFormat)}.
    */
-  private static String formatLatitudeHumanMedium(final Latitude latitude) {
-    return latitude.format(AngleFormat.MEDIUM);
+  private static void appendHuman(
+      final Appendable out, final Angle angle, final AngleFormat angleFormat) throws IOException {
+    final long totalSeconds = toRoundedSeconds(angle.getDegrees());
+    int degrees = (int) (totalSeconds / 3600);
+    int minutes = (int) (totalSeconds / 60 % 60);
+    final int seconds = (int) (totalSeconds % 60);
+    switch (angleFormat) {
+      case SHORT:
+        if (minutes >= 30) {
+          degrees = degrees + 1;
+        }
+        break;
+      case MEDIUM:
+        if (seconds >= 30) {
+          minutes = minutes + 1;
+        }
+        break;
+      case LONG:
+      default:
+        break;
+    }
+
+    appendField(out, degrees);
+    out.append(Angle.Field.DEGREES.toString());
+    if (angleFormat != AngleFormat.SHORT) {
+      appendField(out, minutes);
+      out.append(Angle.Field.MINUTES.toString());
+      if (angleFormat != AngleFormat.MEDIUM) {
+        appendField(out, seconds);
+        out.append(Angle.Field.SECONDS.toString());
+      }
+    }
+    final boolean isNegative = angle.getRadians() < 0;
+    if (angle instanceof Latitude) {
+      out.append(isNegative ? 'S' : 'N');
+    } else {
+      out.append(isNegative ? 'W' : 'E');
+    }
   }
 
   /**
-   * Formats a latitude as an human readable string.
-   *
-   * @param latitude Latitude to format
-   * @return Formatted string
+   * Appends the shortest decimal that parses back to the same double, without an exponent, and
+   * without a trailing .0 for whole numbers.
    */
-  private static String formatLatitudeHumanShort(final Latitude latitude) {
-    return latitude.format(AngleFormat.SHORT);
+  private static void appendPlainDecimal(final Appendable out, final double value)
+      throws IOException {
+    if (value < 0) {
+      out.append('-');
+    }
+    final String string = Double.toString(Math.abs(value));
+    final int exponentIndex = string.indexOf('E');
+    if (exponentIndex < 0) {
+      if (string.endsWith(".0")) {
+        out.append(string, 0, string.length() - 2);
+      } else {
+        out.append(string);
+      }
+      return;
+    }
+
+    // Scientific notation, with one digit before the point, so move the point
+    String digits = string.charAt(0) + string.substring(2, exponentIndex);
+    int digitsEnd = digits.length();
+    while (digitsEnd > 1 && digits.charAt(digitsEnd - 1) == '0') {
+      digitsEnd--;
+    }
+    digits = digits.substring(0, digitsEnd);
+    final int pointIndex = Integer.parseInt(string.substring(exponentIndex + 1)) + 1;
+    if (pointIndex <= 0) {
+      out.append("0.");
+      for (int i = pointIndex; i < 0; i++) {
+        out.append('0');
+      }
+      out.append(digits);
+    } else if (pointIndex >= digits.length()) {
+      out.append(digits);
+      for (int i = digits.length(); i < pointIndex; i++) {
+        out.append('0');
+      }
+    } else {
+      out.append(digits, 0, pointIndex).append('.').append(digits, pointIndex, digits.length());
+    }
   }
 
-  private static String formatLatitudeLong(final Latitude latitude) {
-    final String string =
-        formatLatitudeShort(latitude) + formatSexagesimalMinutesStringLong(latitude);
-    return string;
+  /** Appends a whole number scaled by a power of ten, as a decimal without trailing zeros. */
+  private static void appendScaled(
+      final Appendable out, final long scaled, final long scale, final int fractionDigits)
+      throws IOException {
+    appendDigits(out, scaled / scale, 1);
+    if (fractionDigits > 0) {
+      out.append('.');
+      appendDigits(out, scaled % scale, fractionDigits);
+    }
   }
 
-  private static String formatLatitudeMedium(final Latitude latitude) {
-    final String string =
-        formatLatitudeShort(latitude) + formatSexagesimalMinutesStringMedium(latitude);
-    return string;
+  /**
+   * Appends the shortest decimal that parses back to the same double, trying fewer fraction digits
+   * first, without creating any objects for ordinary values.
+   */
+  private static void appendShortestDecimal(final Appendable out, final double value)
+      throws IOException {
+    final double absValue = Math.abs(value);
+    long scale = 1;
+    for (int fractionDigits = 0; fractionDigits <= MAX_EXACT_FRACTION_DIGITS; fractionDigits++) {
+      final double product = absValue * scale;
+      if (!(product < MAX_EXACT_SCALED_VALUE)) {
+        break;
+      }
+      final long scaled = Math.round(product);
+      if (scaled / (double) scale == absValue) {
+        if (value < 0) {
+          out.append('-');
+        }
+        appendScaled(out, scaled, scale, fractionDigits);
+        return;
+      }
+      scale = scale * 10;
+    }
+    appendPlainDecimal(out, value);
   }
 
-  private static String formatLatitudeShort(final Latitude latitude) {
-    return formatIntegerDegreesString(latitude);
+  private static void checkFormatType(
+      final PointLocationFormatType formatType, final Appendable out) throws FormatterException {
+    if (formatType == null) {
+      throw new FormatterException("No format type provided");
+    }
+    if (out == null) {
+      throw new FormatterException("Nowhere to write the formatted value");
+    }
   }
 
-  private static String formatLatitudeWithDecimals(final Latitude latitude) {
-    final String string = formatLatitudeShort(latitude) + formatDecimalMinutesString(latitude);
-    return string;
+  /** Formats a point location into a byte sink, and returns the number of bytes written. */
+  private static int formatPointLocation(
+      final PointLocation pointLocation,
+      final PointLocationFormatType formatType,
+      final Utf8ByteSink sink)
+      throws FormatterException {
+    try {
+      formatPointLocation(pointLocation, formatType, (Appendable) sink);
+    } catch (final IOException e) {
+      // A byte sink never throws
+      throw new UncheckedIOException(e);
+    }
+    return sink.finish();
   }
 
   /**
-   * Formats a longitude as an human readable string.
+   * Rounds an angle to whole seconds, in the same way as the fields of an {@link Angle}, but
+   * without creating any objects.
    *
-   * @param longitude Longitude to format
-   * @return Formatted string
+   * @return Absolute value of the angle, in whole seconds
    */
-  private static String formatLongitudeHumanMedium(final Longitude longitude) {
-    return longitude.format(AngleFormat.MEDIUM);
+  private static long toRoundedSeconds(final double degrees) {
+    final double absValue = Math.abs(degrees);
+    final int units = (int) Math.floor(absValue);
+    final int seconds = (int) Math.round((absValue - units) * 3600D);
+    return units * 3600L + seconds;
   }
 
   /**
-   * Formats a longitude as an human readable string.
-   *
-   * @param longitude Longitude to format
-   * @return Formatted string
+   * Rounds a value that is not negative to a whole number of steps of a power of ten, on its exact
+   * binary value. The scaled value must be below {@link #MAX_EXACT_SCALED_VALUE}.
    */
-  private static String formatLongitudeHumanShort(final Longitude longitude) {
-    return longitude.format(AngleFormat.SHORT);
-  }
-
-  private static String formatLongitudeLong(final Longitude longitude) {
-    final String string =
-        formatLongitudeShort(longitude) + formatSexagesimalMinutesStringLong(longitude);
-    return string;
-  }
-
-  private static String formatLongitudeMedium(final Longitude longitude) {
-    final String string =
-        formatLongitudeShort(longitude) + formatSexagesimalMinutesStringMedium(longitude);
-    return string;
-  }
-
-  private static String formatLongitudeShort(final Longitude longitude) {
-    return formatIntegerDegreesString(longitude);
-  }
-
-  private static String formatLongitudeWithDecimals(final Longitude longitude) {
-    final String string =
-        formatIntegerDegreesString(longitude) + formatDecimalMinutesString(longitude);
-    return string;
-  }
-
-  private static String formatSexagesimalMinutesStringLong(final Angle angle) {
-    final int absMinutes = Math.abs(angle.getField(Angle.Field.MINUTES));
-    final int absSeconds = Math.abs(angle.getField(Angle.Field.SECONDS));
-
-    final NumberFormat integerFormat = getIntegerFormat(2);
-    return integerFormat.format(absMinutes) + integerFormat.format(absSeconds);
-  }
-
-  private static String formatSexagesimalMinutesStringMedium(final Angle angle) {
-    int absMinutes = Math.abs(angle.getField(Angle.Field.MINUTES));
-    final int absSeconds = Math.abs(angle.getField(Angle.Field.SECONDS));
-    if (absMinutes < 59 && absSeconds >= 30) {
-      absMinutes = absMinutes + 1;
+  private static long toScaled(
+      final double absValue, final int fractionDigits, final RoundingMode roundingMode) {
+    final double scale = POWERS_OF_TEN[fractionDigits];
+    final double product = absValue * scale;
+    // The exact product is the rounded product plus the error, which is exact
+    final double error = Math.fma(absValue, scale, -product);
+    final double floor = Math.floor(product);
+    final double excess = product - floor - 0.5;
+    long scaled = (long) floor;
+    if (excess > -error) {
+      scaled++;
+    } else if (excess == -error) {
+      if (roundingMode == RoundingMode.HALF_UP || (scaled & 1) == 1) {
+        scaled++;
+      }
+    } else if (roundingMode == RoundingMode.HALF_UP && (floor + 0.5) / scale == absValue) {
+      scaled++;
     }
-
-    final NumberFormat integerFormat = getIntegerFormat(2);
-    return integerFormat.format(absMinutes);
-  }
-
-  private static NumberFormat getIntegerFormat(final int integerDigits) {
-    final NumberFormat numberFormat = NumberFormat.getIntegerInstance();
-    numberFormat.setMinimumIntegerDigits(integerDigits);
-    return numberFormat;
-  }
-
-  private static NumberFormat getNumberFormat(final int integerDigits) {
-    final NumberFormat numberFormat = NumberFormat.getInstance();
-    numberFormat.setMinimumIntegerDigits(integerDigits);
-    numberFormat.setMinimumFractionDigits(5);
-    numberFormat.setMaximumFractionDigits(5);
-    numberFormat.setGroupingUsed(false);
-    return numberFormat;
+    return scaled;
   }
 
   private PointLocationFormatter() {
@@ -0,0 +1,164 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.format;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Appends characters as UTF-8 bytes, straight into a byte array or a byte buffer, without a charset
+ * encoder. The ISO 6709 formats are ASCII, so every character is usually a single byte. Unpaired
+ * surrogates are written as <code>?</code>, as the UTF-8 charset does.
+ *
+ * <p>A byte buffer is written at absolute indexes, and its position is only moved by {@link
+ * #finish()}, so a failed write leaves the position where it was. Bytes are written as they are
+ * appended, so the bytes that were written before a write failed stay in the array or buffer.
+ *
+ * @author Sualeh Fatehi
+ */
+final class Utf8ByteSink implements Appendable {
+
+  private final byte[] array;
+  private final ByteBuffer buffer;
+  private final int start;
+  private final int limit;
+  private int index;
+  private char highSurrogate;
+
+  /**
+   * Constructor, for a byte array.
+   *
+   * @param array Array to write to
+   * @param offset Index of the first byte to write
+   */
+  Utf8ByteSink(final byte[] array, final int offset) {
+    if (offset < 0 || offset > array.length) {
+      throw new IndexOutOfBoundsException(
+          "Offset " + offset + " out of bounds for length " + array.length);
+    }
+    this.array = array;
+    buffer = null;
+    start = offset;
+    limit = array.length;
+    index = offset;
+  }
+
+  /**
+   * Constructor, for a byte buffer. Heap buffers are written through their backing array.
+   *
+   * @param buffer Buffer to write to, from its position up to its limit
+   */
+  Utf8ByteSink(final ByteBuffer buffer) {
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    if (buffer.hasArray()) {
+      array = buffer.array();
+      this.buffer = buffer;
+      start = buffer.arrayOffset() + buffer.position();
+      limit = buffer.arrayOffset() + buffer.limit();
+    } else {
+      array = null;
+      this.buffer = buffer;
+      start = buffer.position();
+      limit = buffer.limit();
+    }
+    index = start;
+  }
+
+  @Override
+  public Appendable append(final char c) {
+    if (highSurrogate != 0) {
+      final char high = highSurrogate;
+      highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        final int codePoint = Character.toCodePoint(high, c);
+        ensureCapacity(4);
+        put((byte) (0xF0 | codePoint >> 18));
+        put((byte) (0x80 | codePoint >> 12 & 0x3F));
+        put((byte) (0x80 | codePoint >> 6 & 0x3F));
+        put((byte) (0x80 | codePoint & 0x3F));
+        return this;
+      }
+      ensureCapacity(1);
+      put((byte) '?');
+    }
+
+    if (c < 0x80) {
+      ensureCapacity(1);
+      put((byte) c);
+    } else if (c < 0x800) {
+      ensureCapacity(2);
+      put((byte) (0xC0 | c >> 6));
+      put((byte) (0x80 | c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      ensureCapacity(1);
+      put((byte) '?');
+    } else {
+      ensureCapacity(3);
+      put((byte) (0xE0 | c >> 12));
+      put((byte) (0x80 | c >> 6 & 0x3F));
+      put((byte) (0x80 | c & 0x3F));
+    }
+    return this;
+  }
+
+  @Override
+  public Appendable append(final CharSequence csq) {
+    final CharSequence text = csq == null ? "null" : csq;
+    return append(text, 0, text.length());
+  }
+
+  @Override
+  public Appendable append(final CharSequence csq, final int start, final int end) {
+    final CharSequence text = csq == null ? "null" : csq;
+    for (int i = start; i < end; i++) {
+      append(text.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Writes any unpaired surrogate that is still pending, and moves the position of the byte buffer
+   * past the bytes that were written.
+   *
+   * @return Number of bytes written
+   */
+  int finish() {
+    if (highSurrogate != 0) {
+      highSurrogate = 0;
+      ensureCapacity(1);
+      put((byte) '?');
+    }
+    final int length = index - start;
+    if (buffer != null) {
+      buffer.position(buffer.position() + length);
+    }
+    return length;
+  }
+
+  private void ensureCapacity(final int length) {
+    if (limit - index < length) {
+      if (buffer != null) {
+        throw new BufferOverflowException();
+      }
+      throw new IndexOutOfBoundsException(
+          "Formatted value does not fit in array of length " + array.length);
+    }
+  }
+
+  private void put(final byte b) {
+    if (array != null) {
+      array[index] = b;
+    } else {
+      buffer.put(index, b);
+    }
+    index++;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A read-only view of a range of ASCII encoded bytes as characters, so that bytes can be parsed
+ * without decoding or copying them. Each byte is read as a single character, so this is only
+ * meaningful for ASCII text, such as the ISO 6709 compact formats.
+ *
+ * @author Sualeh Fatehi
+ */
+final class AsciiCharSequence implements CharSequence {
+
+  private final byte[] array;
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int length;
+
+  /**
+   * Constructor.
+   *
+   * @param array Bytes to view
+   * @param offset Index of the first byte in the view
+   * @param length Number of bytes in the view
+   */
+  AsciiCharSequence(final byte[] array, final int offset, final int length) {
+    Objects.checkFromIndexSize(offset, length, array.length);
+    this.array = array;
+    buffer = null;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Constructor. Heap buffers are read through their backing array, and direct buffers with
+   * absolute gets, so the buffer position is never changed.
+   *
+   * @param buffer Buffer to view
+   * @param index Absolute index of the first byte in the view
+   * @param length Number of bytes in the view
+   */
+  AsciiCharSequence(final ByteBuffer buffer, final int index, final int length) {
+    Objects.checkFromIndexSize(index, length, buffer.limit());
+    if (buffer.hasArray()) {
+      array = buffer.array();
+      this.buffer = null;
+      offset = buffer.arrayOffset() + index;
+    } else {
+      array = null;
+      this.buffer = buffer;
+      offset = index;
+    }
+    this.length = length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public char charAt(final int index) {
+    Objects.checkIndex(index, length);
+    if (array != null) {
+      return (char) (array[offset + index] & 0xFF);
+    } else {
+      return (char) (buffer.get(offset + index) & 0xFF);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    Objects.checkFromToIndex(start, end, length);
+    if (array != null) {
+      return new AsciiCharSequence(array, offset + start, end - start);
+    } else {
+      return new AsciiCharSequence(buffer, offset + start, end - start);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    if (array != null) {
+      return new String(array, offset, length, ISO_8859_1);
+    }
+    final byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, ISO_8859_1);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Results of parsing a batch of point locations, in input order. Records that could not be parsed
+ * do not stop the batch, and are reported as errors with their index.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BatchParseResult {
+
+  /**
+   * Joins results of consecutive parts of a batch into a single result, adjusting the indices of
+   * the errors.
+   *
+   * @param parts Results of consecutive parts of the batch, in order
+   * @return Combined result
+   */
+  static BatchParseResult concatenate(final List<BatchParseResult> parts) {
+    int size = 0;
+    int errorCount = 0;
+    for (final BatchParseResult part : parts) {
+      size = size + part.size();
+      errorCount = errorCount + part.errors.size();
+    }
+
+    final PointLocation[] pointLocations = new PointLocation[size];
+    final List<ParseError> errors = new ArrayList<>(errorCount);
+    int offset = 0;
+    for (final BatchParseResult part : parts) {
+      System.arraycopy(part.pointLocations, 0, pointLocations, offset, part.size());
+      for (final ParseError error : part.errors) {
+        errors.add(
+            new ParseError(offset + error.getIndex(), error.getStatus(), error.getErrorOffset()));
+      }
+      offset = offset + part.size();
+    }
+    return new BatchParseResult(pointLocations, errors);
+  }
+
+  private final PointLocation[] pointLocations;
+  private final List<ParseError> errors;
+
+  /**
+   * Constructor.
+   *
+   * @param pointLocations Parsed point locations, with null for records that failed
+   * @param errors Errors, in order of index
+   */
+  BatchParseResult(final PointLocation[] pointLocations, final List<ParseError> errors) {
+    this.pointLocations = Objects.requireNonNull(pointLocations);
+    this.errors = Collections.unmodifiableList(Objects.requireNonNull(errors));
+  }
+
+  /**
+   * Gets the point location parsed from a record.
+   *
+   * @param index Zero-based index of the record
+   * @return Point location, or null if the record could not be parsed
+   */
+  public PointLocation get(final int index) {
+    return pointLocations[index];
+  }
+
+  /**
+   * Number of records that could not be parsed.
+   *
+   * @return Number of errors
+   */
+  public int getErrorCount() {
+    return errors.size();
+  }
+
+  /**
+   * Errors for records that could not be parsed, in input order.
+   *
+   * @return Errors
+   */
+  public List<ParseError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Point locations that were successfully parsed, in input order. Records that failed are
+   * skipped.
+   *
+   * @return Point locations
+   */
+  public List<PointLocation> getPointLocations() {
+    final List<PointLocation> parsed = new ArrayList<>(pointLocations.length - errors.size());
+    for (final PointLocation pointLocation : pointLocations) {
+      if (pointLocation != null) {
+        parsed.add(pointLocation);
+      }
+    }
+    return parsed;
+  }
+
+  /**
+   * Whether the record at the given index could not be parsed.
+   *
+   * @param index Zero-based index of the record
+   * @return True if the record failed
+   */
+  public boolean isFailed(final int index) {
+    return pointLocations[index] == null;
+  }
+
+  /**
+   * Number of records in the batch, including those that failed.
+   *
+   * @return Number of records
+   */
+  public int size() {
+    return pointLocations.length;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "BatchParseResult [size=" + size() + ", errors=" + getErrorCount() + "]";
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+/**
+ * Formats that a coordinate can be written in.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum CoordinateFormat {
+  /** Format is not known, and is detected from the value. */
+  UNKNOWN,
+  /** ISO 6709 compact format, such as +401213.1 */
+  ISO6709_COMPACT,
+  /** Human readable format with degree, minute and second symbols, such as 40°12'13.1"N */
+  HUMAN_READABLE;
+}
@@ -5,24 +5,7 @@
  */
 package us.fatehi.pointlocation6709.parse;
 
-import static org.apache.commons.lang3.StringUtils.contains;
-import static org.apache.commons.lang3.StringUtils.countMatches;
-import static org.apache.commons.lang3.StringUtils.endsWithAny;
-import static org.apache.commons.lang3.StringUtils.indexOf;
-import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.apache.commons.lang3.StringUtils.left;
-import static org.apache.commons.lang3.StringUtils.right;
-import static org.apache.commons.lang3.StringUtils.split;
-import static org.apache.commons.lang3.StringUtils.substring;
-import static org.apache.commons.lang3.StringUtils.trimToEmpty;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.math.NumberUtils;
+import java.util.Objects;
 
 import us.fatehi.pointlocation6709.Angle;
 import us.fatehi.pointlocation6709.Latitude;
@@ -31,34 +14,210 @@ import us.fatehi.pointlocation6709.Longitude;
 /**
  * Parses objects from strings.
  *
+ * <p>Coordinate parsers are thread-safe. A single instance can be shared by any number of threads.
+ * Both the compact and the human readable formats are parsed by hand in a single pass, so parsing
+ * takes time linear in the length of the input, whatever the input.
+ *
+ * <p>By default, the format of each value is detected before it is parsed. A parser for a source
+ * that always uses one format can be told that format, or can learn it from the first value it
+ * sees. Values are then parsed straight away in the expected format, and the format is only
+ * detected when a value cannot be parsed that way. If a value turns out to be in the other format,
+ * the parser expects that format from then on.
+ *
  * @author Sualeh Fatehi
  */
 public final class CoordinateParser {
 
-  /** Compass direction, for parsing. */
-  private enum CompassDirection {
-    N(1),
-    S(-1),
-    E(1),
-    W(-1);
+  /** Number of decimal digits that always fit exactly into a double. */
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  private static final double[] POWERS_OF_TEN = {
+    1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10, 1E11, 1E12, 1E13, 1E14, 1E15
+  };
+
+  /**
+   * Detects the format of a coordinate, in a single pass that stops at the first degree, minute or
+   * second symbol. The format is only a guess, and the coordinate may still fail to parse.
+   *
+   * @param text Character sequence containing the coordinate
+   * @param start Index of the first character of the coordinate
+   * @param end Index after the last character of the coordinate
+   * @return Format of the coordinate, or unknown if it is blank
+   * @throws IndexOutOfBoundsException If the region is not within the character sequence
+   */
+  public static CoordinateFormat detectFormat(
+      final CharSequence text, final int start, final int end) {
+    Objects.requireNonNull(text, "No value provided");
+    Objects.checkFromToIndex(start, end, text.length());
+    final int trimmedStart = trimStart(text, start, end);
+    final int trimmedEnd = trimEnd(text, trimmedStart, end);
+    if (trimmedStart == trimmedEnd) {
+      return CoordinateFormat.UNKNOWN;
+    }
+    return detectTrimmedFormat(text, trimmedStart, trimmedEnd);
+  }
+
+  static boolean isDigit(final char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  static int trimEnd(final CharSequence text, final int start, final int end) {
+    int index = end;
+    while (index > start && text.charAt(index - 1) <= ' ') {
+      index--;
+    }
+    return index;
+  }
+
+  static int trimStart(final CharSequence text, final int start, final int end) {
+    int index = start;
+    while (index < end && text.charAt(index) <= ' ') {
+      index++;
+    }
+    return index;
+  }
 
-    private final int sign;
+  /**
+   * Gets the angle field for a symbol.
+   *
+   * @return 0 for degrees, 1 for minutes, 2 for seconds, or -1 if the character is not a symbol
+   */
+  static int getAngleField(final char ch) {
+    switch (ch) {
+      case '\u00B0':
+        return 0;
+      case '\'':
+        return 1;
+      case '"':
+        return 2;
+      default:
+        return -1;
+    }
+  }
 
-    private CompassDirection(final int sign) {
-      this.sign = sign;
+  /**
+   * Gets the sign for a compass direction.
+   *
+   * @return 1 for north or east, -1 for south or west, or 0 if the character is not a compass
+   *     direction
+   */
+  static int getCompassSign(final char ch) {
+    switch (ch) {
+      case 'N':
+      case 'E':
+        return 1;
+      case 'S':
+      case 'W':
+        return -1;
+      default:
+        return 0;
     }
+  }
 
-    /**
-     * @return the sign
-     */
-    final int getSign() {
-      return sign;
+  static CoordinateFormat detectTrimmedFormat(
+      final CharSequence text, final int trimmedStart, final int trimmedEnd) {
+    // A trailing compass direction is only allowed in the human readable format
+    if (getCompassSign(text.charAt(trimmedEnd - 1)) != 0) {
+      return CoordinateFormat.HUMAN_READABLE;
     }
+    for (int i = trimmedStart; i < trimmedEnd; i++) {
+      if (isAngleFieldSymbol(text.charAt(i))) {
+        return CoordinateFormat.HUMAN_READABLE;
+      }
+    }
+    return CoordinateFormat.ISO6709_COMPACT;
+  }
+
+  private static boolean isAngleFieldSymbol(final char ch) {
+    return getAngleField(ch) >= 0;
+  }
+
+  private final boolean isAdaptive;
+  private volatile CoordinateFormat expectedFormat;
+
+  /** Constructor, for a parser that detects the format of every value. */
+  public CoordinateParser() {
+    isAdaptive = false;
+    expectedFormat = CoordinateFormat.UNKNOWN;
+  }
+
+  /**
+   * Constructor, for a parser for a source that uses a single format. Values are parsed in the
+   * expected format first, and the format is only detected when that fails.
+   *
+   * @param expectedFormat Format that the source uses, or unknown to learn it from the first value
+   */
+  public CoordinateParser(final CoordinateFormat expectedFormat) {
+    isAdaptive = true;
+    this.expectedFormat = Objects.requireNonNull(expectedFormat, "No format provided");
   }
 
-  private final Pattern patternAngleFields = Pattern.compile("(\\d+\\.?\\d*)[\u00B0\'\"]\\b*");
-  private final Pattern patternCompassDirection1 = Pattern.compile(".*([NSEW])");
-  private final Pattern patternCompassDirection2 = Pattern.compile("([\\+\\-]).*");
+  /**
+   * Format that values are expected to be in, which may have been learned from earlier values.
+   *
+   * @return Expected format, or unknown if the format is detected for every value
+   */
+  public CoordinateFormat getExpectedFormat() {
+    return expectedFormat;
+  }
+
+  /**
+   * Parses a region of a character sequence as a latitude, without copying it. The indices are
+   * relative to the character sequence, so for a {@link java.nio.CharBuffer} they are relative to
+   * the buffer position.
+   *
+   * @param text Character sequence containing the representation of the latitude
+   * @param start Index of the first character of the latitude
+   * @param end Index after the last character of the latitude
+   * @return Latitude
+   * @throws ParserException On an exception
+   */
+  public Latitude parseLatitude(final CharSequence text, final int start, final int end)
+      throws ParserException {
+    checkRegion(text, start, end);
+    final ParseContext context = new ParseContext();
+    final Latitude latitude = parseLatitude(text, start, end, context);
+    if (latitude == null) {
+      throw context.toParserException(text, start, end);
+    }
+    return latitude;
+  }
+
+  /**
+   * Parses a region of a character sequence as a latitude in degrees, without creating any
+   * objects. The value is not converted to radians and back, so it can differ in the last digit
+   * from the degrees of a parsed {@link Latitude}.
+   *
+   * @param text Character sequence containing the representation of the latitude
+   * @param start Index of the first character of the latitude
+   * @param end Index after the last character of the latitude
+   * @return Latitude in degrees, from -90 to 90
+   * @throws ParserException On an exception
+   */
+  public double parseLatitudeDegrees(final CharSequence text, final int start, final int end)
+      throws ParserException {
+    checkRegion(text, start, end);
+    final ParseContext context = new ParseContext();
+    final double degrees = parseLatitudeDegrees(text, start, end, context);
+    if (context.isFailed()) {
+      throw context.toParserException(text, start, end);
+    }
+    return degrees;
+  }
+
+  /**
+   * Parses a string representation of the latitude, in degrees.
+   *
+   * @param latitudeString String representation of the latitude
+   * @return Latitude in degrees, from -90 to 90
+   * @throws ParserException On an exception
+   */
+  public double parseLatitudeDegrees(final String latitudeString) throws ParserException {
+    if (latitudeString == null) {
+      throw new ParserException("No value provided");
+    }
+    return parseLatitudeDegrees(latitudeString, 0, latitudeString.length());
+  }
 
   /**
    * Parses a string representation of the latitude.
@@ -68,248 +227,495 @@ public final class CoordinateParser {
    * @throws ParserException On an exception
    */
   public Latitude parseLatitude(final String latitudeString) throws ParserException {
-    try {
-      final Latitude latitude = new Latitude(parseAngle(latitudeString));
-      return latitude;
-    } catch (final RuntimeException e) {
-      throw new ParserException("Cannot parse latitude: " + latitudeString);
+    if (latitudeString == null) {
+      throw new ParserException("No value provided");
     }
+    return parseLatitude(latitudeString, 0, latitudeString.length());
   }
 
   /**
-   * Parses a string representation of the longitude.
+   * Parses a region of a character sequence as a longitude, without copying it. The indices are
+   * relative to the character sequence, so for a {@link java.nio.CharBuffer} they are relative to
+   * the buffer position.
    *
-   * @param longitudeString String representation of the longitude
+   * @param text Character sequence containing the representation of the longitude
+   * @param start Index of the first character of the longitude
+   * @param end Index after the last character of the longitude
    * @return Longitude
    * @throws ParserException On an exception
    */
-  public Longitude parseLongitude(final String longitudeString) throws ParserException {
-    try {
-      final Longitude longitude = new Longitude(parseAngle(longitudeString));
-      return longitude;
-    } catch (final RuntimeException e) {
-      throw new ParserException("Cannot parse longitude: " + longitudeString);
-    }
-  }
-
-  private int getISO6709HumanFormatSign(final String coordinateString) throws ParserException {
-    // Look for compass points
-    final Matcher matcherCompassDirection1 = patternCompassDirection1.matcher(coordinateString);
-    while (matcherCompassDirection1.find()) {
-      final String token = trimToEmpty(matcherCompassDirection1.group(1)).toUpperCase();
-      try {
-        final CompassDirection compassDirection = CompassDirection.valueOf(token);
-        return compassDirection.getSign();
-      } catch (final IllegalArgumentException e) {
-        // Ignore
-      }
+  public Longitude parseLongitude(final CharSequence text, final int start, final int end)
+      throws ParserException {
+    checkRegion(text, start, end);
+    final ParseContext context = new ParseContext();
+    final Longitude longitude = parseLongitude(text, start, end, context);
+    if (longitude == null) {
+      throw context.toParserException(text, start, end);
     }
+    return longitude;
+  }
 
-    // Look for signs
-    final Matcher matcherCompassDirection2 = patternCompassDirection2.matcher(coordinateString);
-    while (matcherCompassDirection2.find()) {
-      final String token = trimToEmpty(matcherCompassDirection2.group(1));
-      if (token.equals("-")) {
-        return -1;
-      }
+  /**
+   * Parses a region of a character sequence as a longitude in degrees, without creating any
+   * objects. The value is not converted to radians and back, so it can differ in the last digit
+   * from the degrees of a parsed {@link Longitude}.
+   *
+   * @param text Character sequence containing the representation of the longitude
+   * @param start Index of the first character of the longitude
+   * @param end Index after the last character of the longitude
+   * @return Longitude in degrees, from -180 up to, but not including, 180
+   * @throws ParserException On an exception
+   */
+  public double parseLongitudeDegrees(final CharSequence text, final int start, final int end)
+      throws ParserException {
+    checkRegion(text, start, end);
+    final ParseContext context = new ParseContext();
+    final double degrees = parseLongitudeDegrees(text, start, end, context);
+    if (context.isFailed()) {
+      throw context.toParserException(text, start, end);
     }
-
-    // No sign, or + found
-    return 1;
+    return degrees;
   }
 
-  private boolean isLikelyISO6709Format(final String coordinateString) throws ParserException {
-    final String representation = trimToEmpty(coordinateString);
-    if (isBlank(representation)) {
+  /**
+   * Parses a string representation of the longitude, in degrees.
+   *
+   * @param longitudeString String representation of the longitude
+   * @return Longitude in degrees, from -180 up to, but not including, 180
+   * @throws ParserException On an exception
+   */
+  public double parseLongitudeDegrees(final String longitudeString) throws ParserException {
+    if (longitudeString == null) {
       throw new ParserException("No value provided");
     }
+    return parseLongitudeDegrees(longitudeString, 0, longitudeString.length());
+  }
 
-    final int countDegrees = countMatches(representation, Angle.Field.DEGREES.toString());
-    final int countMinutes = countMatches(representation, Angle.Field.MINUTES.toString());
-    final int countSeconds = countMatches(representation, Angle.Field.SECONDS.toString());
-    if (countDegrees > 0 || countMinutes > 0 || countSeconds > 0) {
-      return false;
+  /**
+   * Parses a string representation of the longitude.
+   *
+   * @param longitudeString String representation of the longitude
+   * @return Longitude
+   * @throws ParserException On an exception
+   */
+  public Longitude parseLongitude(final String longitudeString) throws ParserException {
+    if (longitudeString == null) {
+      throw new ParserException("No value provided");
     }
+    return parseLongitude(longitudeString, 0, longitudeString.length());
+  }
 
-    if (endsWithAny(representation, "E", "W", "N", "S")) {
-      return false;
+  /**
+   * Parses a region of a character sequence as a latitude, recording any failure in the context
+   * instead of throwing an exception.
+   *
+   * @param text Character sequence containing the representation of the latitude
+   * @param start Index of the first character of the latitude
+   * @param end Index after the last character of the latitude
+   * @param context Context to record a failure in
+   * @return Latitude, or null if it cannot be parsed
+   */
+  Latitude parseLatitude(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final double degrees = parseAngle(text, start, end, context);
+    if (context.isFailed()) {
+      return null;
     }
-
-    return true;
+    return toLatitude(degrees, start, context);
   }
 
-  private Angle parseAngle(final String angleString) throws ParserException {
-
-    final boolean isLikelyISO6709Format = isLikelyISO6709Format(angleString);
-
-    final List<String> coordinateTokens;
-    if (isLikelyISO6709Format) {
-      coordinateTokens = parseISO6709Format(angleString);
-    } else {
-      coordinateTokens = parseISO6709HumanFormat(angleString);
+  /**
+   * Parses a region of a character sequence as a latitude in degrees, recording any failure in the
+   * context instead of throwing an exception.
+   *
+   * @param text Character sequence containing the representation of the latitude
+   * @param start Index of the first character of the latitude
+   * @param end Index after the last character of the latitude
+   * @param context Context to record a failure in
+   * @return Latitude in degrees, or NaN if it cannot be parsed
+   */
+  double parseLatitudeDegrees(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final double degrees = parseAngle(text, start, end, context);
+    if (context.isFailed()) {
+      return Double.NaN;
     }
-    if (coordinateTokens == null || coordinateTokens.size() != 4) {
-      throw new ParserException("Cannot parse " + angleString);
+    if (Math.abs(degrees) > 90) {
+      context.fail(ParseStatus.LATITUDE_OUT_OF_RANGE, start);
+      return Double.NaN;
     }
+    return degrees;
+  }
 
-    final int sign = NumberUtils.toInt(coordinateTokens.get(0), 1);
-    final double degrees = NumberUtils.toDouble(coordinateTokens.get(1), 0);
-    final double minutes = NumberUtils.toDouble(coordinateTokens.get(2), 0);
-    if (Math.abs(minutes) >= 60D) {
-      throw new ParserException("Too many minutes: " + angleString);
+  /**
+   * Parses a region of a character sequence as a longitude, recording any failure in the context
+   * instead of throwing an exception.
+   *
+   * @param text Character sequence containing the representation of the longitude
+   * @param start Index of the first character of the longitude
+   * @param end Index after the last character of the longitude
+   * @param context Context to record a failure in
+   * @return Longitude, or null if it cannot be parsed
+   */
+  Longitude parseLongitude(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final double degrees = parseAngle(text, start, end, context);
+    if (context.isFailed()) {
+      return null;
     }
-    final double seconds = NumberUtils.toDouble(coordinateTokens.get(3), 0);
-    if (Math.abs(seconds) >= 60D) {
-      throw new ParserException("Too many seconds: " + angleString);
+    return toLongitude(degrees, start, context);
+  }
+
+  /**
+   * Parses a region of a character sequence as a longitude in degrees, recording any failure in
+   * the context instead of throwing an exception.
+   *
+   * @param text Character sequence containing the representation of the longitude
+   * @param start Index of the first character of the longitude
+   * @param end Index after the last character of the longitude
+   * @param context Context to record a failure in
+   * @return Longitude in degrees, or NaN if it cannot be parsed
+   */
+  double parseLongitudeDegrees(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final double degrees = parseAngle(text, start, end, context);
+    if (context.isFailed()) {
+      return Double.NaN;
+    }
+    // According to the ISO6709 standard, the 180th meridian is always negative
+    if (Math.abs(degrees) > 180 || degrees == 180) {
+      context.fail(ParseStatus.LONGITUDE_OUT_OF_RANGE, start);
+      return Double.NaN;
+    }
+    return degrees;
+  }
+
+  /**
+   * Creates a latitude from a value in degrees, and checks that it is in range.
+   *
+   * @param degrees Latitude in degrees
+   * @param start Index of the first character of the latitude, to report a failure at
+   * @param context Context to record a failure in
+   * @return Latitude, or null if it is out of range
+   */
+  Latitude toLatitude(final double degrees, final int start, final ParseContext context) {
+    final Angle angle = Angle.fromDegrees(degrees);
+    if (Math.abs(angle.getDegrees()) > 90) {
+      context.fail(ParseStatus.LATITUDE_OUT_OF_RANGE, start);
+      return null;
     }
+    return new Latitude(angle);
+  }
 
-    final double angle = sign * (degrees + minutes / 60D + seconds / 3600D);
-    return Angle.fromDegrees(angle);
+  /**
+   * Creates a longitude from a value in degrees, and checks that it is in range.
+   *
+   * @param degrees Longitude in degrees
+   * @param start Index of the first character of the longitude, to report a failure at
+   * @param context Context to record a failure in
+   * @return Longitude, or null if it is out of range
+   */
+  Longitude toLongitude(final double degrees, final int start, final ParseContext context) {
+    final Angle angle = Angle.fromDegrees(degrees);
+    // According to the ISO6709 standard, the 180th meridian is always negative
+    if (Math.abs(angle.getDegrees()) > 180 || angle.getDegrees() == 180) {
+      context.fail(ParseStatus.LONGITUDE_OUT_OF_RANGE, start);
+      return null;
+    }
+    return new Longitude(angle);
   }
 
-  private List<String> parseISO6709Format(final String representation) throws ParserException {
-    if (isBlank(representation)) {
+  private void checkRegion(final CharSequence text, final int start, final int end)
+      throws ParserException {
+    if (text == null) {
       throw new ParserException("No value provided");
     }
+    Objects.checkFromToIndex(start, end, text.length());
+  }
 
-    // Find sign
-    int sign = 1;
-    final String signChar = left(representation, 1);
-    try {
-      final CompassDirection compassDirection = CompassDirection.valueOf(signChar.toUpperCase());
-      sign = compassDirection.getSign();
-    } catch (final IllegalArgumentException e) {
-      if (signChar.equals("-")) {
-        sign = -1;
-      } else if (!signChar.equals("+")) {
-        throw new ParserException("Cannot parse: " + representation);
+  /**
+   * Parses an angle in either the ISO 6709 compact format, or a human readable format.
+   *
+   * @return Angle in degrees, or NaN if it cannot be parsed
+   */
+  private double parseAngle(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final int trimmedStart = trimStart(text, start, end);
+    final int trimmedEnd = trimEnd(text, trimmedStart, end);
+    if (trimmedStart == trimmedEnd) {
+      context.fail(ParseStatus.NO_VALUE, start);
+      return Double.NaN;
+    }
+
+    final CoordinateFormat expected = expectedFormat;
+    if (expected != CoordinateFormat.UNKNOWN) {
+      final double degrees = parseAngle(text, trimmedStart, trimmedEnd, expected, context);
+      if (!context.isFailed()) {
+        return degrees;
       }
     }
 
-    final String[] split = split(right(representation, representation.length() - 1), ".");
-    if (split.length < 1 || split.length > 2) {
-      throw new ParserException("Cannot parse: " + representation);
+    // Detect the format, unless the value is already known to be in the detected format
+    final CoordinateFormat detected = detectTrimmedFormat(text, trimmedStart, trimmedEnd);
+    if (detected == expected) {
+      return Double.NaN;
     }
-    final String anglePart = split[0];
-    final String fractionPart;
-    if (split.length == 2) {
-      fractionPart = "." + split[1];
-    } else {
-      fractionPart = "";
+    context.reset();
+    final double degrees = parseAngle(text, trimmedStart, trimmedEnd, detected, context);
+    if (isAdaptive && !context.isFailed()) {
+      expectedFormat = detected;
     }
+    return degrees;
+  }
 
-    // Parse degrees
-    int degreeLength;
-    if (anglePart.length() % 2 == 0) {
-      degreeLength = 2;
-    } else {
-      degreeLength = 3;
-    }
-    String degreesString = left(anglePart, degreeLength);
-    if (isBlank(degreesString)) {
-      throw new ParserException("Cannot parse: " + representation);
-    }
-    final boolean hasMinutes = anglePart.length() > degreeLength;
-    if (!hasMinutes) {
-      degreesString = degreesString + fractionPart;
+  private double parseAngle(
+      final CharSequence text,
+      final int trimmedStart,
+      final int trimmedEnd,
+      final CoordinateFormat format,
+      final ParseContext context) {
+    if (format == CoordinateFormat.HUMAN_READABLE) {
+      return parseISO6709HumanFormat(text, trimmedStart, trimmedEnd, context);
     }
+    return parseISO6709Format(text, trimmedStart, trimmedEnd, context);
+  }
 
-    // Parse minutes
-    String minutesString = "0";
-    if (hasMinutes) {
-      minutesString = substring(anglePart, degreeLength, degreeLength + 2);
-    }
-    final boolean hasSeconds = anglePart.length() > degreeLength + 2;
-    if (hasMinutes && !hasSeconds) {
-      minutesString = minutesString + fractionPart;
+  /**
+   * Parses a field of digits, with an optional fraction, into a double. The digits are accumulated
+   * into a long, and divided by a power of ten once, so the result is correctly rounded.
+   *
+   * @param text Character sequence to read the digits from
+   * @param start Index of the first integer digit
+   * @param end Index after the last integer digit
+   * @param fractionStart Index of the first fraction digit
+   * @param fractionEnd Index after the last fraction digit
+   * @return Value of the field
+   */
+  static double parseDigits(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final int fractionStart,
+      final int fractionEnd) {
+    final int fractionDigits = fractionEnd - fractionStart;
+    if (end - start + fractionDigits > MAX_EXACT_DIGITS) {
+      // Too many digits to be exact in a long, so fall back to the library
+      if (fractionDigits > 0) {
+        return Double.parseDouble(text.subSequence(start, fractionEnd).toString());
+      } else {
+        return Double.parseDouble(text.subSequence(start, end).toString());
+      }
     }
 
-    // Parse seconds
-    String secondsString = "0";
-    if (hasSeconds) {
-      secondsString = substring(anglePart, degreeLength + 2);
-      secondsString = secondsString + fractionPart;
+    long mantissa = 0;
+    for (int i = start; i < end; i++) {
+      mantissa = mantissa * 10 + text.charAt(i) - '0';
     }
-
-    final List<String> coordinateTokens = new ArrayList<>();
-    coordinateTokens.add(String.valueOf(sign));
-    coordinateTokens.add(String.valueOf(degreesString));
-    coordinateTokens.add(String.valueOf(minutesString));
-    coordinateTokens.add(String.valueOf(secondsString));
-
-    return coordinateTokens;
+    for (int i = fractionStart; i < fractionEnd; i++) {
+      mantissa = mantissa * 10 + text.charAt(i) - '0';
+    }
+    return mantissa / POWERS_OF_TEN[fractionDigits];
   }
 
-  private List<String> parseISO6709HumanFormat(final String coordinateString)
-      throws ParserException {
-    final String representation = trimToEmpty(coordinateString);
-    if (isBlank(representation)) {
-      throw new ParserException("No value provided");
+  /**
+   * Parses an angle in the ISO 6709 compact format, such as <code>+DDMMSS.ss</code>, in a single
+   * pass over the characters. The sign, digit groups and fraction are read directly into
+   * primitives, so no intermediate strings or lists are created.
+   *
+   * @param text Character sequence containing the representation of the angle
+   * @param trimmedStart Index of the first character of the angle, which is not whitespace
+   * @param trimmedEnd Index after the last character of the angle, which is not whitespace
+   * @param context Context to record a failure in
+   * @return Angle in degrees, or NaN if it cannot be parsed
+   */
+  private double parseISO6709Format(
+      final CharSequence text,
+      final int trimmedStart,
+      final int trimmedEnd,
+      final ParseContext context) {
+    // Find sign
+    final int sign;
+    switch (text.charAt(trimmedStart)) {
+      case '+':
+      case 'N':
+      case 'n':
+      case 'E':
+      case 'e':
+        sign = 1;
+        break;
+      case '-':
+      case 'S':
+      case 's':
+      case 'W':
+      case 'w':
+        sign = -1;
+        break;
+      default:
+        context.fail(ParseStatus.UNEXPECTED_CHARACTER, trimmedStart);
+        return Double.NaN;
+    }
+
+    // Find the integer digits, and the fraction digits
+    final int angleStart = trimmedStart + 1;
+    int angleEnd = angleStart;
+    while (angleEnd < trimmedEnd && isDigit(text.charAt(angleEnd))) {
+      angleEnd++;
+    }
+    int fractionStart = angleEnd;
+    int fractionEnd = angleEnd;
+    if (angleEnd < trimmedEnd && text.charAt(angleEnd) == '.') {
+      fractionStart = angleEnd + 1;
+      fractionEnd = fractionStart;
+      while (fractionEnd < trimmedEnd && isDigit(text.charAt(fractionEnd))) {
+        fractionEnd++;
+      }
     }
-
-    validateHumanCoordinate(representation);
-    final List<String> angleParts = splitHumanCoordinates(representation);
-    final int sign = getISO6709HumanFormatSign(representation);
-
-    final List<String> coordinateTokens = new ArrayList<>();
-    coordinateTokens.add(String.valueOf(sign));
-
-    int anglePartsIndex = 0;
-    if (contains(representation, Angle.Field.DEGREES.toString())) {
-      coordinateTokens.add(angleParts.get(anglePartsIndex));
-      anglePartsIndex++;
-    } else {
-      coordinateTokens.add("0");
+    final int angleLength = angleEnd - angleStart;
+    if (angleLength == 0 || fractionEnd != trimmedEnd) {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, fractionEnd);
+      return Double.NaN;
     }
-    if (contains(representation, Angle.Field.MINUTES.toString())) {
-      coordinateTokens.add(angleParts.get(anglePartsIndex));
-      anglePartsIndex++;
+
+    // Parse degrees
+    final int degreeLength;
+    if (angleLength % 2 == 0) {
+      degreeLength = 2;
     } else {
-      coordinateTokens.add("0");
+      degreeLength = 3;
     }
-    if (contains(representation, Angle.Field.SECONDS.toString())) {
-      coordinateTokens.add(angleParts.get(anglePartsIndex));
-      anglePartsIndex++;
+    final boolean hasMinutes = angleLength > degreeLength;
+    final boolean hasSeconds = angleLength > degreeLength + 2;
+
+    final double degrees;
+    final double minutes;
+    final double seconds;
+    if (!hasMinutes) {
+      degrees = parseDigits(text, angleStart, angleEnd, fractionStart, fractionEnd);
+      minutes = 0;
+      seconds = 0;
     } else {
-      coordinateTokens.add("0");
+      final int minutesStart = angleStart + degreeLength;
+      degrees = parseDigits(text, angleStart, minutesStart, angleEnd, angleEnd);
+      if (!hasSeconds) {
+        minutes = parseDigits(text, minutesStart, angleEnd, fractionStart, fractionEnd);
+        seconds = 0;
+      } else {
+        final int secondsStart = minutesStart + 2;
+        minutes = parseDigits(text, minutesStart, secondsStart, angleEnd, angleEnd);
+        seconds = parseDigits(text, secondsStart, angleEnd, fractionStart, fractionEnd);
+      }
     }
 
-    return coordinateTokens;
+    return toDegrees(trimmedStart, sign, degrees, minutes, seconds, context);
   }
 
-  private List<String> splitHumanCoordinates(final String coordinateString) throws ParserException {
-    final List<String> tokens = new ArrayList<>();
+  /**
+   * Parses an angle in a human readable format, such as <code>40\u00B012'13"N</code>, in a single
+   * pass over the characters. Each field is a number followed immediately by its symbol. The fields
+   * must be in the order of degrees, minutes and seconds, and each may appear at most once. The
+   * angle may be signed with a leading + or -, and with a compass direction either before or after
+   * the fields. A compass direction takes precedence over a sign.
+   *
+   * <p>Every character is looked at once, with no backtracking, so the time taken is linear in the
+   * length of the text, even for hostile input.
+   *
+   * @param text Character sequence containing the representation of the angle
+   * @param trimmedStart Index of the first character of the angle, which is not whitespace
+   * @param trimmedEnd Index after the last character of the angle, which is not whitespace
+   * @param context Context to record a failure in
+   * @return Angle in degrees, or NaN if it cannot be parsed
+   */
+  private double parseISO6709HumanFormat(
+      final CharSequence text,
+      final int trimmedStart,
+      final int trimmedEnd,
+      final ParseContext context) {
+    int index = trimmedStart;
+
+    // Leading sign, or compass direction
+    int sign = 1;
+    int compassSign = getCompassSign(text.charAt(index));
+    if (compassSign != 0) {
+      index = trimStart(text, index + 1, trimmedEnd);
+    } else if (text.charAt(index) == '+' || text.charAt(index) == '-') {
+      sign = text.charAt(index) == '-' ? -1 : 1;
+      index = trimStart(text, index + 1, trimmedEnd);
+    }
+
+    // Fields, each a number followed by its symbol
+    double degrees = 0;
+    double minutes = 0;
+    double seconds = 0;
+    int lastField = -1;
+    while (index < trimmedEnd && isDigit(text.charAt(index))) {
+      final int integerStart = index;
+      int integerEnd = integerStart;
+      while (integerEnd < trimmedEnd && isDigit(text.charAt(integerEnd))) {
+        integerEnd++;
+      }
+      int fractionStart = integerEnd;
+      int fractionEnd = integerEnd;
+      if (integerEnd < trimmedEnd && text.charAt(integerEnd) == '.') {
+        fractionStart = integerEnd + 1;
+        fractionEnd = fractionStart;
+        while (fractionEnd < trimmedEnd && isDigit(text.charAt(fractionEnd))) {
+          fractionEnd++;
+        }
+      }
 
-    final Matcher matcherAngleFields = patternAngleFields.matcher(coordinateString);
-    while (matcherAngleFields.find()) {
-      final String token = matcherAngleFields.group(1);
-      if (StringUtils.isNotBlank(token)) {
-        tokens.add(token);
+      // Fields must be in order, so a repeated or misplaced field is not allowed
+      final int field = fractionEnd < trimmedEnd ? getAngleField(text.charAt(fractionEnd)) : -1;
+      if (field <= lastField) {
+        context.fail(ParseStatus.MALFORMED_ANGLE, fractionEnd);
+        return Double.NaN;
+      }
+      final double value = parseDigits(text, integerStart, integerEnd, fractionStart, fractionEnd);
+      if (field == 0) {
+        degrees = value;
+      } else if (field == 1) {
+        minutes = value;
+      } else {
+        seconds = value;
       }
+      lastField = field;
+      index = trimStart(text, fractionEnd + 1, trimmedEnd);
     }
-    if (tokens.size() > 3) {
-      throw new ParserException("Too many parts in " + coordinateString);
+    if (lastField < 0) {
+      context.fail(ParseStatus.MALFORMED_ANGLE, index);
+      return Double.NaN;
     }
 
-    return tokens;
-  }
-
-  private void validateHumanCoordinate(final String representation) throws ParserException {
-    final int countDegrees = countMatches(representation, Angle.Field.DEGREES.toString());
-    final int countMinutes = countMatches(representation, Angle.Field.MINUTES.toString());
-    final int countSeconds = countMatches(representation, Angle.Field.SECONDS.toString());
-    if (countDegrees > 1 || countMinutes > 1 || countSeconds > 1) {
-      throw new ParserException("Incorrectly formed angle - " + representation);
+    // Trailing compass direction, which must be the last character
+    if (index < trimmedEnd) {
+      final int trailingCompassSign = getCompassSign(text.charAt(index));
+      if (compassSign != 0 || trailingCompassSign == 0 || index + 1 != trimmedEnd) {
+        context.fail(ParseStatus.MALFORMED_ANGLE, index);
+        return Double.NaN;
+      }
+      compassSign = trailingCompassSign;
     }
+    if (compassSign != 0) {
+      sign = compassSign;
+    }
+
+    return toDegrees(trimmedStart, sign, degrees, minutes, seconds, context);
+  }
 
-    final int indexOfDegrees = indexOf(representation, Angle.Field.DEGREES.toString());
-    final int indexOfMinutes = indexOf(representation, Angle.Field.MINUTES.toString());
-    final int indexOfSeconds = indexOf(representation, Angle.Field.SECONDS.toString());
-    if (countMinutes > 0 && indexOfDegrees > indexOfMinutes) {
-      throw new ParserException("Incorrectly formed angle - " + representation);
+  private double toDegrees(
+      final int start,
+      final int sign,
+      final double degrees,
+      final double minutes,
+      final double seconds,
+      final ParseContext context) {
+    if (Math.abs(minutes) >= 60D) {
+      context.fail(ParseStatus.TOO_MANY_MINUTES, start);
+      return Double.NaN;
     }
-    if (countSeconds > 0 && indexOfMinutes > indexOfSeconds) {
-      throw new ParserException("Incorrectly formed angle - " + representation);
+    if (Math.abs(seconds) >= 60D) {
+      context.fail(ParseStatus.TOO_MANY_SECONDS, start);
+      return Double.NaN;
     }
+    return sign * (degrees + minutes / 60D + seconds / 3600D);
   }
 }
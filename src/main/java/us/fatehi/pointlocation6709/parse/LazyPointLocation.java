@@ -0,0 +1,171 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * A view of a point location string, whose structure has been checked, but whose fields are only
+ * decoded when they are first asked for. Each decoded field is kept, so it is decoded at most
+ * once. Stages that only route on one field, or that pass the record on unchanged, do not pay to
+ * decode the rest. The original text is always available from {@link #toString()}.
+ *
+ * <p>Only the layout of the fields is checked up front. A coordinate that is laid out correctly,
+ * but has a value that is out of range, or too many minutes or seconds, is only detected when it is
+ * decoded. Use {@link #toPointLocation()} to decode and check every field at once.
+ *
+ * <p>Instances are thread-safe, although a field may be decoded more than once if several threads
+ * ask for it at the same time.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class LazyPointLocation {
+
+  private static final CoordinateParser COORDINATE_PARSER =
+      new CoordinateParser(CoordinateFormat.ISO6709_COMPACT);
+
+  private final String text;
+  private final int latitudeStart;
+  private final int latitudeEnd;
+  private final int longitudeStart;
+  private final int longitudeEnd;
+  private final int altitudeStart;
+  private final int altitudeEnd;
+  private final int crsStart;
+  private final int crsEnd;
+
+  private volatile Latitude decodedLatitude;
+  private volatile Longitude decodedLongitude;
+  private volatile String decodedCoordinateReferenceSystemIdentifier;
+
+  /** Constructor, with the boundaries of each field in the text. */
+  LazyPointLocation(
+      final String text,
+      final int latitudeStart,
+      final int latitudeEnd,
+      final int longitudeStart,
+      final int longitudeEnd,
+      final int altitudeStart,
+      final int altitudeEnd,
+      final int crsStart,
+      final int crsEnd) {
+    this.text = text;
+    this.latitudeStart = latitudeStart;
+    this.latitudeEnd = latitudeEnd;
+    this.longitudeStart = longitudeStart;
+    this.longitudeEnd = longitudeEnd;
+    this.altitudeStart = altitudeStart;
+    this.altitudeEnd = altitudeEnd;
+    this.crsStart = crsStart;
+    this.crsEnd = crsEnd;
+  }
+
+  /**
+   * Altitude, decoded each time it is asked for, since that does not create any objects.
+   *
+   * @return Altitude, or 0 if none was provided
+   */
+  public double getAltitude() {
+    if (altitudeEnd == altitudeStart) {
+      return 0;
+    }
+    return PointLocationParser.parseAltitude(text, altitudeStart, altitudeEnd);
+  }
+
+  /**
+   * Coordinate reference system identifier, decoded when it is first asked for.
+   *
+   * @return Identifier, or an empty string if none was provided
+   */
+  public String getCoordinateReferenceSystemIdentifier() {
+    String identifier = decodedCoordinateReferenceSystemIdentifier;
+    if (identifier == null) {
+      identifier = text.substring(crsStart, crsEnd);
+      decodedCoordinateReferenceSystemIdentifier = identifier;
+    }
+    return identifier;
+  }
+
+  /**
+   * Latitude, decoded when it is first asked for.
+   *
+   * @return Latitude
+   * @throws IllegalStateException If the latitude is laid out correctly, but cannot be decoded
+   */
+  public Latitude getLatitude() {
+    try {
+      return decodeLatitude();
+    } catch (final ParserException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Longitude, decoded when it is first asked for.
+   *
+   * @return Longitude
+   * @throws IllegalStateException If the longitude is laid out correctly, but cannot be decoded
+   */
+  public Longitude getLongitude() {
+    try {
+      return decodeLongitude();
+    } catch (final ParserException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Decodes every field that has not been decoded yet, and creates a point location.
+   *
+   * @return Point location
+   * @throws ParserException If a coordinate cannot be decoded
+   */
+  public PointLocation toPointLocation() throws ParserException {
+    return new PointLocation(
+        decodeLatitude(),
+        decodeLongitude(),
+        getAltitude(),
+        getCoordinateReferenceSystemIdentifier());
+  }
+
+  /**
+   * The original text of the point location, unchanged.
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  private Latitude decodeLatitude() throws ParserException {
+    Latitude latitude = decodedLatitude;
+    if (latitude == null) {
+      final ParseContext context = new ParseContext();
+      latitude = COORDINATE_PARSER.parseLatitude(text, latitudeStart, latitudeEnd, context);
+      if (latitude == null) {
+        throw context.toParserException(text, latitudeStart, latitudeEnd);
+      }
+      decodedLatitude = latitude;
+    }
+    return latitude;
+  }
+
+  private Longitude decodeLongitude() throws ParserException {
+    Longitude longitude = decodedLongitude;
+    if (longitude == null) {
+      final ParseContext context = new ParseContext();
+      longitude = COORDINATE_PARSER.parseLongitude(text, longitudeStart, longitudeEnd, context);
+      if (longitude == null) {
+        throw context.toParserException(text, longitudeStart, longitudeEnd);
+      }
+      decodedLongitude = longitude;
+    }
+    return longitude;
+  }
+}
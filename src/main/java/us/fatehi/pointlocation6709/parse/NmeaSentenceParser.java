@@ -0,0 +1,403 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.isDigit;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.parseDigits;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimEnd;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimStart;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Parses positions out of NMEA 0183 GGA and RMC sentences, from any talker, such as
+ * <code>$GPGGA,123519,4807.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,*47</code>. The checksum is
+ * required, and is checked. Latitudes are laid out as <code>ddmm.mmmm</code> and longitudes as
+ * <code>dddmm.mmmm</code>, followed by a hemisphere field. Altitude is taken from GGA sentences,
+ * and is 0 for RMC sentences. Sentences without a position fix are reported as failures.
+ *
+ * <p>Fields are parsed in place, in a single pass over the sentence, without creating any objects
+ * for them. Positions can be written straight into arrays of decimal degrees, to convert large
+ * numbers of sentences without creating any objects at all.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class NmeaSentenceParser {
+
+  private static final int LATITUDE = 0;
+  private static final int LONGITUDE = 1;
+  private static final int ALTITUDE = 2;
+
+  /**
+   * Parses a sentence into a point location.
+   *
+   * @param sentence NMEA sentence, with or without a line terminator
+   * @return Point location
+   * @throws ParserException If the sentence is not a valid GGA or RMC sentence with a position fix
+   */
+  public static PointLocation parseSentence(final CharSequence sentence) throws ParserException {
+    if (sentence == null) {
+      throw new ParserException(ParseStatus.NO_VALUE.getDescription());
+    }
+    final ParseContext context = new ParseContext();
+    final double[] position = new double[3];
+    if (!parseSentence(sentence, 0, sentence.length(), context, position)) {
+      throw context.toParserException(sentence, 0, sentence.length());
+    }
+    return toPointLocation(position);
+  }
+
+  /**
+   * Parses complete lines of ASCII encoded sentences from a buffer, from the position, and writes
+   * the position of each GGA and RMC sentence with a fix into arrays, in decimal degrees. Other
+   * sentences, and sentences that cannot be parsed, are skipped. Parsing stops when the arrays are
+   * full, or when there is no complete line left, and the position of the buffer is moved to after
+   * the last line that was read. So the rest of the buffer can be compacted, and parsing resumed
+   * once more bytes have arrived.
+   *
+   * @param buffer Buffer containing sentences, one per line, terminated by LF or CRLF
+   * @param latitudes Array for latitudes
+   * @param longitudes Array for longitudes, at least as long as the array for latitudes
+   * @param altitudes Array for altitudes, at least as long as the array for latitudes, or null if
+   *     altitudes are not needed
+   * @return Number of positions written to the arrays
+   */
+  public static int parseSentences(
+      final ByteBuffer buffer,
+      final double[] latitudes,
+      final double[] longitudes,
+      final double[] altitudes) {
+    Objects.requireNonNull(buffer, "No buffer provided");
+    Objects.requireNonNull(latitudes, "No latitudes array provided");
+    Objects.requireNonNull(longitudes, "No longitudes array provided");
+    final int capacity = latitudes.length;
+    if (longitudes.length < capacity || altitudes != null && altitudes.length < capacity) {
+      throw new IllegalArgumentException("Arrays are not the same length");
+    }
+
+    final int limit = buffer.limit();
+    final AsciiCharSequence text = new AsciiCharSequence(buffer, 0, limit);
+    final ParseContext context = new ParseContext();
+    final double[] position = new double[3];
+    int count = 0;
+    int lineStart = buffer.position();
+    while (count < capacity) {
+      int lineEnd = lineStart;
+      while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      if (lineEnd == limit) {
+        break;
+      }
+      context.reset();
+      if (parseSentence(text, lineStart, lineEnd, context, position)) {
+        latitudes[count] = position[LATITUDE];
+        longitudes[count] = position[LONGITUDE];
+        if (altitudes != null) {
+          altitudes[count] = position[ALTITUDE];
+        }
+        count++;
+      }
+      lineStart = lineEnd + 1;
+    }
+    buffer.position(lineStart);
+    return count;
+  }
+
+  /**
+   * Parses a region of a character sequence as a sentence, without throwing an exception if it
+   * cannot be parsed.
+   *
+   * @param text Character sequence containing the sentence
+   * @param start Index of the first character of the sentence
+   * @param end Index after the last character of the sentence
+   * @return Result with either the point location, or the reason for the failure
+   * @throws IndexOutOfBoundsException If the region is not within the character sequence
+   */
+  public static ParseResult tryParseSentence(
+      final CharSequence text, final int start, final int end) {
+    if (text == null) {
+      return ParseResult.failure(ParseStatus.NO_VALUE, 0);
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+
+    final ParseContext context = new ParseContext();
+    final double[] position = new double[3];
+    if (!parseSentence(text, start, end, context, position)) {
+      return ParseResult.failure(context.getStatus(), context.getErrorIndex() - start);
+    }
+    return ParseResult.success(toPointLocation(position));
+  }
+
+  private static int hexValue(final char ch) {
+    if (ch >= '0' && ch <= '9') {
+      return ch - '0';
+    } else if (ch >= 'A' && ch <= 'F') {
+      return ch - 'A' + 10;
+    } else if (ch >= 'a' && ch <= 'f') {
+      return ch - 'a' + 10;
+    } else {
+      return -1;
+    }
+  }
+
+  /**
+   * Parses an altitude field, such as 545.4 or -12, without creating any objects.
+   *
+   * @return Altitude, or NaN if it cannot be parsed
+   */
+  private static double parseAltitude(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    if (start == end) {
+      return 0;
+    }
+    int index = start;
+    final int sign = text.charAt(index) == '-' ? -1 : 1;
+    if (text.charAt(index) == '-' || text.charAt(index) == '+') {
+      index++;
+    }
+    final int integerStart = index;
+    while (index < end && isDigit(text.charAt(index))) {
+      index++;
+    }
+    final int integerEnd = index;
+    int fractionStart = integerEnd;
+    if (index < end && text.charAt(index) == '.') {
+      index++;
+      fractionStart = index;
+      while (index < end && isDigit(text.charAt(index))) {
+        index++;
+      }
+    }
+    if (index != end || integerEnd == integerStart && index == fractionStart) {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, index);
+      return Double.NaN;
+    }
+    return sign * parseDigits(text, integerStart, integerEnd, fractionStart, index);
+  }
+
+  /**
+   * Parses a coordinate field laid out as degrees and minutes, such as 4807.038, with its
+   * hemisphere field, and checks that it is in range.
+   *
+   * @return Coordinate in degrees, or NaN if it cannot be parsed
+   */
+  private static double parseCoordinate(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final int hemisphereStart,
+      final int hemisphereEnd,
+      final boolean isLatitude,
+      final ParseContext context) {
+    if (start == end) {
+      context.fail(ParseStatus.NO_FIX, start);
+      return Double.NaN;
+    }
+
+    final int degreeDigits = isLatitude ? 2 : 3;
+    int index = start;
+    while (index < end && isDigit(text.charAt(index))) {
+      index++;
+    }
+    final int integerEnd = index;
+    int fractionStart = integerEnd;
+    if (index < end && text.charAt(index) == '.') {
+      index++;
+      fractionStart = index;
+      while (index < end && isDigit(text.charAt(index))) {
+        index++;
+      }
+    }
+    if (index != end || integerEnd - start != degreeDigits + 2) {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, index);
+      return Double.NaN;
+    }
+
+    final int sign;
+    final char hemisphere = hemisphereEnd - hemisphereStart == 1 ? text.charAt(hemisphereStart) : 0;
+    if (hemisphere == (isLatitude ? 'N' : 'E')) {
+      sign = 1;
+    } else if (hemisphere == (isLatitude ? 'S' : 'W')) {
+      sign = -1;
+    } else {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, hemisphereStart);
+      return Double.NaN;
+    }
+
+    final int minutesStart = start + degreeDigits;
+    final double degrees = parseDigits(text, start, minutesStart, minutesStart, minutesStart);
+    final double minutes = parseDigits(text, minutesStart, integerEnd, fractionStart, end);
+    if (minutes >= 60D) {
+      context.fail(ParseStatus.TOO_MANY_MINUTES, minutesStart);
+      return Double.NaN;
+    }
+    final double coordinate = sign * (degrees + minutes / 60D);
+    if (isLatitude && Math.abs(coordinate) > 90) {
+      context.fail(ParseStatus.LATITUDE_OUT_OF_RANGE, start);
+      return Double.NaN;
+    }
+    if (!isLatitude && Math.abs(coordinate) > 180) {
+      context.fail(ParseStatus.LONGITUDE_OUT_OF_RANGE, start);
+      return Double.NaN;
+    }
+    // According to the ISO6709 standard, the 180th meridian is always negative
+    return coordinate == 180 ? -180 : coordinate;
+  }
+
+  /**
+   * Parses a sentence, recording any failure in the context instead of throwing an exception.
+   *
+   * @param position Array to write the latitude, longitude and altitude into
+   * @return True if the sentence was parsed
+   */
+  private static boolean parseSentence(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final ParseContext context,
+      final double[] position) {
+    final int trimmedStart = trimStart(text, start, end);
+    final int trimmedEnd = trimEnd(text, trimmedStart, end);
+    if (trimmedStart == trimmedEnd) {
+      context.fail(ParseStatus.NO_VALUE, start);
+      return false;
+    }
+    if (text.charAt(trimmedStart) != '$') {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, trimmedStart);
+      return false;
+    }
+
+    // The checksum is the exclusive or of every character between the $ and the *
+    int checksum = 0;
+    int dataEnd = trimmedStart + 1;
+    while (dataEnd < trimmedEnd && text.charAt(dataEnd) != '*') {
+      checksum = checksum ^ text.charAt(dataEnd);
+      dataEnd++;
+    }
+    if (trimmedEnd - dataEnd != 3
+        || hexValue(text.charAt(dataEnd + 1)) < 0
+        || hexValue(text.charAt(dataEnd + 2)) < 0
+        || hexValue(text.charAt(dataEnd + 1)) * 16 + hexValue(text.charAt(dataEnd + 2))
+            != checksum) {
+      context.fail(ParseStatus.BAD_CHECKSUM, dataEnd);
+      return false;
+    }
+
+    // Address field, with a two character talker, and the sentence type
+    final int addressEnd = trimmedStart + 6;
+    if (addressEnd >= dataEnd || text.charAt(addressEnd) != ',') {
+      context.fail(ParseStatus.UNSUPPORTED_SENTENCE, trimmedStart);
+      return false;
+    }
+    final boolean isGGA;
+    if (text.charAt(trimmedStart + 3) == 'G'
+        && text.charAt(trimmedStart + 4) == 'G'
+        && text.charAt(trimmedStart + 5) == 'A') {
+      isGGA = true;
+    } else if (text.charAt(trimmedStart + 3) == 'R'
+        && text.charAt(trimmedStart + 4) == 'M'
+        && text.charAt(trimmedStart + 5) == 'C') {
+      isGGA = false;
+    } else {
+      context.fail(ParseStatus.UNSUPPORTED_SENTENCE, trimmedStart);
+      return false;
+    }
+
+    // Find the boundaries of the fields that are needed, in one pass
+    final int latitudeField = isGGA ? 2 : 3;
+    final int statusField = isGGA ? 6 : 2;
+    final int altitudeField = isGGA ? 9 : -1;
+    int latitudeStart = -1;
+    int latitudeEnd = -1;
+    int northSouthStart = -1;
+    int northSouthEnd = -1;
+    int longitudeStart = -1;
+    int longitudeEnd = -1;
+    int eastWestStart = -1;
+    int eastWestEnd = -1;
+    int altitudeStart = -1;
+    int altitudeEnd = -1;
+    char status = 0;
+    int field = 1;
+    int fieldStart = addressEnd + 1;
+    while (fieldStart <= dataEnd) {
+      int fieldEnd = fieldStart;
+      while (fieldEnd < dataEnd && text.charAt(fieldEnd) != ',') {
+        fieldEnd++;
+      }
+      if (field == latitudeField) {
+        latitudeStart = fieldStart;
+        latitudeEnd = fieldEnd;
+      } else if (field == latitudeField + 1) {
+        northSouthStart = fieldStart;
+        northSouthEnd = fieldEnd;
+      } else if (field == latitudeField + 2) {
+        longitudeStart = fieldStart;
+        longitudeEnd = fieldEnd;
+      } else if (field == latitudeField + 3) {
+        eastWestStart = fieldStart;
+        eastWestEnd = fieldEnd;
+      } else if (field == statusField) {
+        status = fieldEnd > fieldStart ? text.charAt(fieldStart) : 0;
+      } else if (field == altitudeField) {
+        altitudeStart = fieldStart;
+        altitudeEnd = fieldEnd;
+      }
+      field++;
+      fieldStart = fieldEnd + 1;
+    }
+    if (isGGA && altitudeEnd < 0 || !isGGA && eastWestEnd < 0) {
+      context.fail(ParseStatus.MISSING_COORDINATES, dataEnd);
+      return false;
+    }
+    if (isGGA ? status == 0 || status == '0' : status != 'A') {
+      context.fail(ParseStatus.NO_FIX, trimmedStart);
+      return false;
+    }
+
+    final double latitude =
+        parseCoordinate(
+            text, latitudeStart, latitudeEnd, northSouthStart, northSouthEnd, true, context);
+    if (context.isFailed()) {
+      return false;
+    }
+    final double longitude =
+        parseCoordinate(
+            text, longitudeStart, longitudeEnd, eastWestStart, eastWestEnd, false, context);
+    if (context.isFailed()) {
+      return false;
+    }
+    final double altitude =
+        isGGA ? parseAltitude(text, altitudeStart, altitudeEnd, context) : 0;
+    if (context.isFailed()) {
+      return false;
+    }
+
+    position[LATITUDE] = latitude;
+    position[LONGITUDE] = longitude;
+    position[ALTITUDE] = altitude;
+    return true;
+  }
+
+  private static PointLocation toPointLocation(final double[] position) {
+    return new PointLocation(
+        new Latitude(Angle.fromDegrees(position[LATITUDE])),
+        new Longitude(Angle.fromDegrees(position[LONGITUDE])),
+        position[ALTITUDE],
+        "");
+  }
+
+  private NmeaSentenceParser() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+/**
+ * Records the first failure while parsing a single value, so that parse failures can be reported
+ * without throwing exceptions. A context is not thread-safe, and is used by one parse at a time.
+ *
+ * <p>When a point location is scanned, the context also records the bounds of each of its fields,
+ * so that every parse path can decode the fields that it needs from the same layout.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ParseContext {
+
+  private ParseStatus status;
+  private int errorIndex;
+
+  // Bounds of the fields of the last point location that was scanned, with an empty altitude or
+  // coordinate reference system identifier if there was none
+  int latitudeStart;
+  int latitudeEnd;
+  int longitudeStart;
+  int longitudeEnd;
+  int altitudeStart;
+  int altitudeEnd;
+  int crsStart;
+  int crsEnd;
+
+  ParseContext() {
+    reset();
+  }
+
+  /**
+   * Records a failure, unless a failure was already recorded.
+   *
+   * @param failureStatus Reason for the failure
+   * @param index Index of the character where the failure was detected
+   */
+  void fail(final ParseStatus failureStatus, final int index) {
+    if (status == ParseStatus.OK) {
+      status = failureStatus;
+      errorIndex = index;
+    }
+  }
+
+  /**
+   * Index of the character where the failure was detected, in the character sequence being
+   * parsed.
+   *
+   * @return Index, or -1 if there is no failure
+   */
+  int getErrorIndex() {
+    return errorIndex;
+  }
+
+  ParseStatus getStatus() {
+    return status;
+  }
+
+  boolean isFailed() {
+    return status != ParseStatus.OK;
+  }
+
+  /** Clears any failure, so that the context can be used for another parse. */
+  void reset() {
+    status = ParseStatus.OK;
+    errorIndex = -1;
+  }
+
+  /**
+   * Creates an exception for the recorded failure.
+   *
+   * @param text Character sequence that was parsed
+   * @param start Index of the first character that was parsed
+   * @param end Index after the last character that was parsed
+   * @return Exception describing the failure
+   */
+  ParserException toParserException(final CharSequence text, final int start, final int end) {
+    switch (status) {
+      case NO_VALUE:
+      case NOT_TERMINATED:
+        return new ParserException(status.getDescription());
+      default:
+        return new ParserException(status.getDescription() + ": " + text.subSequence(start, end));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+/**
+ * A failure to parse one record of a batch of point locations.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class ParseError {
+
+  private final int index;
+  private final ParseStatus status;
+  private final int errorOffset;
+
+  /**
+   * Constructor.
+   *
+   * @param index Zero-based index of the record that failed
+   * @param status Reason for the failure
+   * @param errorOffset Offset of the character in the record where the failure was detected
+   */
+  ParseError(final int index, final ParseStatus status, final int errorOffset) {
+    this.index = index;
+    this.status = status;
+    this.errorOffset = errorOffset;
+  }
+
+  /**
+   * Offset of the character where the failure was detected, from the start of the record.
+   *
+   * @return Offset in the record
+   */
+  public int getErrorOffset() {
+    return errorOffset;
+  }
+
+  /**
+   * Zero-based index of the record that failed. For records read from a file, this is one less
+   * than the line number.
+   *
+   * @return Index of the record
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Reason for the failure.
+   *
+   * @return Error message
+   */
+  public String getMessage() {
+    return status.getDescription() + " at offset " + errorOffset;
+  }
+
+  /**
+   * Reason for the failure.
+   *
+   * @return Status
+   */
+  public ParseStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return index + ": " + getMessage();
+  }
+}
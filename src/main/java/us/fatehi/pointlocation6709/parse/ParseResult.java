@@ -0,0 +1,101 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Result of parsing a point location without throwing an exception. Either holds the parsed point
+ * location, or the reason for the failure, and the offset of the character in the input where the
+ * failure was detected.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class ParseResult {
+
+  static ParseResult failure(final ParseStatus status, final int errorOffset) {
+    return new ParseResult(null, status, errorOffset);
+  }
+
+  static ParseResult success(final PointLocation pointLocation) {
+    return new ParseResult(pointLocation, ParseStatus.OK, -1);
+  }
+
+  private final PointLocation pointLocation;
+  private final ParseStatus status;
+  private final int errorOffset;
+
+  private ParseResult(
+      final PointLocation pointLocation, final ParseStatus status, final int errorOffset) {
+    this.pointLocation = pointLocation;
+    this.status = status;
+    this.errorOffset = errorOffset;
+  }
+
+  /**
+   * Offset of the character where the failure was detected, from the start of the input that was
+   * parsed.
+   *
+   * @return Offset, or -1 if the parse succeeded
+   */
+  public int getErrorOffset() {
+    return errorOffset;
+  }
+
+  /**
+   * Describes the outcome of the parse.
+   *
+   * @return Message
+   */
+  public String getMessage() {
+    if (isSuccess()) {
+      return status.getDescription();
+    } else {
+      return status.getDescription() + " at offset " + errorOffset;
+    }
+  }
+
+  /**
+   * Parsed point location.
+   *
+   * @return Point location, or null if the parse failed
+   */
+  public PointLocation getPointLocation() {
+    return pointLocation;
+  }
+
+  /**
+   * Outcome of the parse.
+   *
+   * @return Status, which is {@link ParseStatus#OK} if the parse succeeded
+   */
+  public ParseStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Whether the point location was parsed.
+   *
+   * @return True if the parse succeeded
+   */
+  public boolean isSuccess() {
+    return status == ParseStatus.OK;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    if (isSuccess()) {
+      return String.valueOf(pointLocation);
+    } else {
+      return getMessage();
+    }
+  }
+}
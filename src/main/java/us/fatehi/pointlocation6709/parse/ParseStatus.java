@@ -0,0 +1,57 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+/**
+ * Outcome of parsing a point location or coordinate, with the reason for a failure.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum ParseStatus {
+  /** Parsed successfully. */
+  OK("Parsed"),
+  /** No value was provided, or the value is blank. */
+  NO_VALUE("No value provided"),
+  /** Point location is not terminated with a /. */
+  NOT_TERMINATED("Point location value must be terminated with /"),
+  /** Point location does not start with a latitude and a longitude. */
+  MISSING_COORDINATES("Latitude and longitude need to be provided"),
+  /** A character was found where it is not allowed. */
+  UNEXPECTED_CHARACTER("Cannot parse"),
+  /** Human readable angle has repeated, or out of order fields. */
+  MALFORMED_ANGLE("Incorrectly formed angle"),
+  /** Minutes are 60 or more. */
+  TOO_MANY_MINUTES("Too many minutes"),
+  /** Seconds are 60 or more. */
+  TOO_MANY_SECONDS("Too many seconds"),
+  /** Latitude is beyond 90 degrees. */
+  LATITUDE_OUT_OF_RANGE("Latitude is out of range"),
+  /** Longitude is beyond 180 degrees, or is the positive 180th meridian. */
+  LONGITUDE_OUT_OF_RANGE("Longitude is out of range"),
+  /** Point location is longer than the stream parser allows. */
+  TOO_LONG("Point location is too long"),
+  /** NMEA sentence checksum is missing, or does not match. */
+  BAD_CHECKSUM("Checksum does not match"),
+  /** NMEA sentence is not a type that contains a position. */
+  UNSUPPORTED_SENTENCE("Sentence type is not supported"),
+  /** NMEA sentence does not have a valid position fix. */
+  NO_FIX("No position fix");
+
+  private final String description;
+
+  private ParseStatus(final String description) {
+    this.description = description;
+  }
+
+  /**
+   * Description of the status.
+   *
+   * @return Description of the status
+   */
+  public String getDescription() {
+    return description;
+  }
+}
@@ -8,7 +8,8 @@ package us.fatehi.pointlocation6709.parse;
 import java.io.Serial;
 
 /**
- * Parser exception.
+ * Parser exception. Parser exceptions do not capture a stack trace, since invalid input is an
+ * expected condition, and filling in the stack trace is most of the cost of creating an exception.
  *
  * @author Sualeh Fatehi
  */
@@ -17,7 +18,9 @@ public class ParserException extends Exception {
   @Serial private static final long serialVersionUID = -8091140656979529951L;
 
   /** Constructor. */
-  public ParserException() {}
+  public ParserException() {
+    super(null, null, true, false);
+  }
 
   /**
    * Constructor.
@@ -25,7 +28,7 @@ public class ParserException extends Exception {
    * @param message Exception message
    */
   public ParserException(final String message) {
-    super(message);
+    super(message, null, true, false);
   }
 
   /**
@@ -35,7 +38,7 @@ public class ParserException extends Exception {
    * @param cause Exception cause
    */
   public ParserException(final String message, final Throwable cause) {
-    super(message, cause);
+    super(message, cause, true, false);
   }
 
   /**
@@ -44,6 +47,6 @@ public class ParserException extends Exception {
    * @param cause Exception cause
    */
   public ParserException(final Throwable cause) {
-    super(cause);
+    super(cause == null ? null : cause.toString(), cause, true, false);
   }
 }
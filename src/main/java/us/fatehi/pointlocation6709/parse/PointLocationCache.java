@@ -0,0 +1,213 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * A bounded cache in front of {@link PointLocationParser}, for streams that repeat the same point
+ * location strings many times. Point locations are immutable, so a single parsed instance is
+ * shared by every caller that parses the same string.
+ *
+ * <p>The cache is split into independently locked stripes, selected by the hash of the string, so
+ * threads parsing different strings rarely contend. Each stripe evicts its least recently used
+ * entry when it is full. Strings that cannot be parsed are not cached. The cache is thread-safe.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationCache {
+
+  /** A stripe of the cache, which is a least recently used map. */
+  private static final class Stripe extends LinkedHashMap<String, PointLocation> {
+
+    @Serial private static final long serialVersionUID = -1907637716553146512L;
+
+    private final int maximumSize;
+    private final LongAdder evictions;
+
+    Stripe(final int maximumSize, final LongAdder evictions) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+      this.evictions = evictions;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, PointLocation> eldest) {
+      if (size() > maximumSize) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private final int maximumSize;
+  private final Stripe[] stripes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor, with a number of stripes suited to the number of processors.
+   *
+   * @param maximumSize Maximum number of point locations to keep in the cache
+   */
+  public PointLocationCache(final int maximumSize) {
+    this(maximumSize, 4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize Maximum number of point locations to keep in the cache
+   * @param concurrencyLevel Expected number of threads using the cache at the same time, which is
+   *     used to decide the number of stripes
+   */
+  public PointLocationCache(final int maximumSize, final int concurrencyLevel) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be positive");
+    }
+    if (concurrencyLevel <= 0) {
+      throw new IllegalArgumentException("Concurrency level must be positive");
+    }
+
+    // A power of two number of stripes, each of which can hold at least one entry
+    int stripeCount = 1;
+    while (stripeCount < concurrencyLevel && stripeCount * 2 <= maximumSize) {
+      stripeCount = stripeCount * 2;
+    }
+
+    this.maximumSize = maximumSize;
+    stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(maximumSize / stripeCount, evictions);
+    }
+  }
+
+  /** Removes all point locations from the cache. Statistics are not reset. */
+  public void clear() {
+    for (final Stripe stripe : stripes) {
+      synchronized (stripe) {
+        stripe.clear();
+      }
+    }
+  }
+
+  /**
+   * Number of least recently used point locations that were removed to make room for new ones.
+   *
+   * @return Number of evictions
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Number of times a point location was found in the cache.
+   *
+   * @return Number of hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Maximum number of point locations kept in the cache.
+   *
+   * @return Maximum size
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Number of times a point location was not found in the cache, and had to be parsed.
+   *
+   * @return Number of misses
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets a point location from the cache, or parses and caches it if it is not present. The
+   * string is parsed without holding a lock, so a slow parse does not block other threads.
+   *
+   * @param representation String representation of the point location
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public PointLocation parsePointLocation(final String representation) throws ParserException {
+    if (representation == null) {
+      throw new ParserException("No point location value provided");
+    }
+
+    final Stripe stripe = stripeFor(representation);
+    synchronized (stripe) {
+      final PointLocation pointLocation = stripe.get(representation);
+      if (pointLocation != null) {
+        hits.increment();
+        return pointLocation;
+      }
+    }
+
+    misses.increment();
+    final PointLocation pointLocation = PointLocationParser.parsePointLocation(representation);
+    synchronized (stripe) {
+      // Another thread may have cached the same string in the meantime
+      final PointLocation cached = stripe.putIfAbsent(representation, pointLocation);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    return pointLocation;
+  }
+
+  /**
+   * Number of point locations currently in the cache.
+   *
+   * @return Number of point locations
+   */
+  public int size() {
+    int size = 0;
+    for (final Stripe stripe : stripes) {
+      synchronized (stripe) {
+        size = size + stripe.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "PointLocationCache [size="
+        + size()
+        + ", maximumSize="
+        + maximumSize
+        + ", hits="
+        + getHitCount()
+        + ", misses="
+        + getMissCount()
+        + ", evictions="
+        + getEvictionCount()
+        + "]";
+  }
+
+  private Stripe stripeFor(final String representation) {
+    final int hash = representation.hashCode();
+    return stripes[(hash ^ hash >>> 16) & stripes.length - 1];
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Parses large files with one ISO 6709 point location per line. The file is memory-mapped, split
+ * into chunks that end on line boundaries, and the chunks are parsed in parallel on a fork-join
+ * pool. Results are returned in the order of the lines in the file, and lines that cannot be
+ * parsed are reported as errors without stopping the rest of the file.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationFileParser {
+
+  /** Default size of a chunk of the file that is parsed by a single task, in bytes. */
+  public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+  /**
+   * Parses a file with one point location per line, using the common fork-join pool. The index of
+   * each result and error is one less than the line number in the file.
+   *
+   * @param path File to parse
+   * @return Parsed point locations, and errors
+   * @throws IOException On an i/o error
+   */
+  public static BatchParseResult parsePointLocations(final Path path) throws IOException {
+    return parsePointLocations(path, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Parses a file with one point location per line. The index of each result and error is one
+   * less than the line number in the file.
+   *
+   * @param path File to parse
+   * @param pool Fork-join pool to parse the chunks of the file on
+   * @param chunkSize Approximate size of each chunk of the file, in bytes
+   * @return Parsed point locations, and errors
+   * @throws IOException On an i/o error
+   */
+  public static BatchParseResult parsePointLocations(
+      final Path path, final ForkJoinPool pool, final int chunkSize) throws IOException {
+    if (path == null) {
+      throw new IOException("No file provided");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("No fork-join pool provided");
+    }
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+
+    try (final FileChannel channel = FileChannel.open(path, READ)) {
+      final List<Callable<BatchParseResult>> tasks = new ArrayList<>();
+      final long size = channel.size();
+      long chunkStart = 0;
+      while (chunkStart < size) {
+        final long chunkEnd = findChunkEnd(channel, chunkStart + chunkSize, size);
+        if (chunkEnd - chunkStart > Integer.MAX_VALUE) {
+          throw new IOException("Line is too long, near byte " + chunkStart);
+        }
+        final MappedByteBuffer chunk =
+            channel.map(MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+        tasks.add(() -> parseLines(chunk));
+        chunkStart = chunkEnd;
+      }
+
+      final List<BatchParseResult> parts = new ArrayList<>(tasks.size());
+      for (final Future<BatchParseResult> future : pool.invokeAll(tasks)) {
+        parts.add(future.get());
+      }
+      return BatchParseResult.concatenate(parts);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while parsing " + path, e);
+    } catch (final ExecutionException e) {
+      throw new IOException("Could not parse " + path, e.getCause());
+    }
+  }
+
+  /**
+   * Finds the end of the chunk, which is just after the first line terminator at or after the
+   * nominal end.
+   */
+  private static long findChunkEnd(
+      final FileChannel channel, final long nominalEnd, final long size) throws IOException {
+    if (nominalEnd >= size) {
+      return size;
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    long position = nominalEnd - 1;
+    while (position < size) {
+      buffer.clear();
+      final int read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position = position + read;
+    }
+    return size;
+  }
+
+  /** Parses every line in a chunk. A final line without a line terminator is also parsed. */
+  private static BatchParseResult parseLines(final ByteBuffer chunk) {
+    final List<PointLocation> pointLocations = new ArrayList<>();
+    final List<ParseError> errors = new ArrayList<>();
+    final ParseContext context = new ParseContext();
+    final int limit = chunk.limit();
+    int lineStart = 0;
+    while (lineStart < limit) {
+      int lineEnd = lineStart;
+      while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      final int nextLineStart = lineEnd + 1;
+      if (lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r') {
+        lineEnd--;
+      }
+
+      // Parse directly from the mapped bytes, with offsets relative to the start of the line
+      final AsciiCharSequence line =
+          new AsciiCharSequence(chunk, lineStart, lineEnd - lineStart);
+      context.reset();
+      final PointLocation pointLocation =
+          PointLocationParser.parsePointLocation(line, 0, line.length(), context);
+      if (pointLocation == null) {
+        errors.add(
+            new ParseError(
+                pointLocations.size(), context.getStatus(), context.getErrorIndex()));
+      }
+      pointLocations.add(pointLocation);
+      lineStart = nextLineStart;
+    }
+    return new BatchParseResult(pointLocations.toArray(new PointLocation[0]), errors);
+  }
+
+  private PointLocationFileParser() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * A mutable holder for the fields of a point location, which the parser fills in place. A single
+ * holder can be reused for every record of a stream, so that records whose values are only read,
+ * and then dropped, are parsed without creating any objects. An immutable point location is only
+ * created when {@link #toPointLocation()} is called.
+ *
+ * <p>The coordinate reference system identifier is held as a reference to the parsed text, and is
+ * only copied out when it is asked for. So it is only valid until the parsed text is changed, or
+ * the holder is reused.
+ *
+ * <p>Instances are not thread-safe, and hold the result of the last parse only.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationHolder {
+
+  final ParseContext context = new ParseContext();
+  private int start;
+  private double latitudeDegrees;
+  private double longitudeDegrees;
+  private double altitude;
+  private CharSequence crsText;
+  private int crsStart;
+  private int crsEnd;
+
+  /** Constructor, for a holder that does not hold a point location yet. */
+  public PointLocationHolder() {
+    context.fail(ParseStatus.NO_VALUE, 0);
+  }
+
+  /**
+   * Altitude.
+   *
+   * @return Altitude, or 0 if none was provided
+   */
+  public double getAltitude() {
+    return altitude;
+  }
+
+  /**
+   * Coordinate reference system identifier, copied out of the parsed text.
+   *
+   * @return Coordinate reference system identifier, or an empty string if none was provided
+   */
+  public String getCoordinateReferenceSystemIdentifier() {
+    if (crsText == null) {
+      return "";
+    }
+    return crsText.subSequence(crsStart, crsEnd).toString();
+  }
+
+  /**
+   * Offset of the character where the last parse failed, from the start of the input that was
+   * parsed.
+   *
+   * @return Offset, or -1 if the last parse succeeded
+   */
+  public int getErrorOffset() {
+    if (isSuccess()) {
+      return -1;
+    }
+    return context.getErrorIndex() - start;
+  }
+
+  /**
+   * Latitude in degrees, as parsed. The value is not converted to radians and back, so it can
+   * differ in the last digit from the degrees of the latitude of {@link #toPointLocation()}.
+   *
+   * @return Latitude in degrees
+   */
+  public double getLatitudeDegrees() {
+    return latitudeDegrees;
+  }
+
+  /**
+   * Latitude in radians, computed in the same way as for a parsed latitude.
+   *
+   * @return Latitude in radians
+   */
+  public double getLatitudeRadians() {
+    return latitudeDegrees * Math.PI / 180D;
+  }
+
+  /**
+   * Longitude in degrees, as parsed. The value is not converted to radians and back, so it can
+   * differ in the last digit from the degrees of the longitude of {@link #toPointLocation()}.
+   *
+   * @return Longitude in degrees
+   */
+  public double getLongitudeDegrees() {
+    return longitudeDegrees;
+  }
+
+  /**
+   * Longitude in radians, computed in the same way as for a parsed longitude.
+   *
+   * @return Longitude in radians
+   */
+  public double getLongitudeRadians() {
+    return longitudeDegrees * Math.PI / 180D;
+  }
+
+  /**
+   * Outcome of the last parse.
+   *
+   * @return Status, which is {@link ParseStatus#OK} if the last parse succeeded
+   */
+  public ParseStatus getStatus() {
+    return context.getStatus();
+  }
+
+  /**
+   * Whether the holder holds a point location, that is, whether the last parse succeeded.
+   *
+   * @return True if the last parse succeeded
+   */
+  public boolean isSuccess() {
+    return !context.isFailed();
+  }
+
+  /**
+   * Creates an immutable point location from the held fields. The point location is equal to the
+   * one that the parser would have returned for the same text.
+   *
+   * @return Point location
+   * @throws IllegalStateException If the holder does not hold a point location
+   */
+  public PointLocation toPointLocation() {
+    if (!isSuccess()) {
+      throw new IllegalStateException("No point location is held, " + getStatus().getDescription());
+    }
+    return new PointLocation(
+        new Latitude(Angle.fromDegrees(latitudeDegrees)),
+        new Longitude(Angle.fromDegrees(longitudeDegrees)),
+        altitude,
+        getCoordinateReferenceSystemIdentifier());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    if (!isSuccess()) {
+      return "PointLocationHolder [" + getStatus().getDescription() + "]";
+    }
+    return "PointLocationHolder [latitude="
+        + latitudeDegrees
+        + ", longitude="
+        + longitudeDegrees
+        + ", altitude="
+        + altitude
+        + ", crs="
+        + getCoordinateReferenceSystemIdentifier()
+        + "]";
+  }
+
+  /**
+   * Clears the holder, for a new parse.
+   *
+   * @param start Index of the first character that is about to be parsed
+   */
+  void reset(final int start) {
+    context.reset();
+    this.start = start;
+    crsText = null;
+  }
+
+  /** Sets the fields, after a successful parse. */
+  void set(
+      final double latitudeDegrees,
+      final double longitudeDegrees,
+      final double altitude,
+      final CharSequence crsText,
+      final int crsStart,
+      final int crsEnd) {
+    this.latitudeDegrees = latitudeDegrees;
+    this.longitudeDegrees = longitudeDegrees;
+    this.altitude = altitude;
+    this.crsText = crsText;
+    this.crsStart = crsStart;
+    this.crsEnd = crsEnd;
+  }
+}
@@ -5,13 +5,20 @@
  */
 package us.fatehi.pointlocation6709.parse;
 
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.isDigit;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.parseDigits;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimEnd;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimStart;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.math.NumberUtils;
 
 import us.fatehi.pointlocation6709.Latitude;
 import us.fatehi.pointlocation6709.Longitude;
@@ -20,10 +27,270 @@ import us.fatehi.pointlocation6709.PointLocation;
 /**
  * Parses objects from strings.
  *
+ * <p>All parse methods are static and thread-safe. They share a single {@link CoordinateParser},
+ * so no parser objects are created for each call.
+ *
  * @author Sualeh Fatehi
  */
 public final class PointLocationParser {
 
+  /**
+   * Parses a range of a batch of point locations, splitting it in half while it is larger than the
+   * leaf size. Each task writes into its own range of the shared results, and returns its errors
+   * in input order.
+   */
+  private static final class BatchParseTask extends RecursiveTask<List<ParseError>> {
+
+    @Serial private static final long serialVersionUID = 2960227305335474011L;
+
+    private final String[] representations;
+    private final PointLocation[] pointLocations;
+    private final int start;
+    private final int end;
+    private final int leafSize;
+
+    BatchParseTask(
+        final String[] representations,
+        final PointLocation[] pointLocations,
+        final int start,
+        final int end,
+        final int leafSize) {
+      this.representations = representations;
+      this.pointLocations = pointLocations;
+      this.start = start;
+      this.end = end;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected List<ParseError> compute() {
+      if (end - start <= leafSize) {
+        return parseRange(representations, pointLocations, start, end);
+      }
+      final int middle = (start + end) >>> 1;
+      final BatchParseTask left =
+          new BatchParseTask(representations, pointLocations, start, middle, leafSize);
+      final BatchParseTask right =
+          new BatchParseTask(representations, pointLocations, middle, end, leafSize);
+      left.fork();
+      final List<ParseError> rightErrors = right.compute();
+      final List<ParseError> errors = left.join();
+      if (errors.isEmpty()) {
+        return rightErrors;
+      }
+      errors.addAll(rightErrors);
+      return errors;
+    }
+  }
+
+  private static final CoordinateParser COORDINATE_PARSER =
+      new CoordinateParser(CoordinateFormat.ISO6709_COMPACT);
+  static final String CRS_PREFIX = "CRS";
+
+  /** Smallest number of point locations that is worth parsing as a separate task. */
+  private static final int MINIMUM_LEAF_SIZE = 256;
+
+  /** Number of tasks to aim for per worker thread, so that uneven work can be balanced. */
+  private static final int TASKS_PER_THREAD = 4;
+
+  /**
+   * Parses a region of a character sequence as a point location in signed decimal degrees, such
+   * as <code>40.20361,-75.00417</code>, with latitude first, and an optional altitude after a
+   * second comma. Whitespace around the values is allowed, and there is no terminating /.
+   *
+   * @param text Character sequence containing the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public static PointLocation parseDecimalDegrees(
+      final CharSequence text, final int start, final int end) throws ParserException {
+    if (text == null) {
+      throw new ParserException("No point location value provided");
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+
+    final ParseContext context = new ParseContext();
+    final PointLocation pointLocation = parseDecimalDegrees(text, start, end, context);
+    if (pointLocation == null) {
+      throw context.toParserException(text, start, end);
+    }
+    return pointLocation;
+  }
+
+  /**
+   * Parses a point location in signed decimal degrees, such as <code>40.20361,-75.00417</code>.
+   *
+   * @param representation Point location in decimal degrees
+   * @return Point location
+   * @throws ParserException On an exception
+   * @see #parseDecimalDegrees(CharSequence, int, int)
+   */
+  public static PointLocation parseDecimalDegrees(final String representation)
+      throws ParserException {
+    if (StringUtils.isBlank(representation)) {
+      throw new ParserException("No point location value provided");
+    }
+    return parseDecimalDegrees(representation, 0, representation.length());
+  }
+
+  /**
+   * Checks the structure of a region of a character sequence as a point location, and returns a
+   * view that decodes each field only when it is first asked for. Coordinates that are laid out
+   * correctly are not checked for range until they are decoded. The region is copied into the
+   * view, since the view can outlive changes to the character sequence.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @return Lazily decoded point location
+   * @throws ParserException If the point location is not laid out correctly
+   */
+  public static LazyPointLocation parseLazyPointLocation(
+      final CharSequence text, final int start, final int end) throws ParserException {
+    if (text == null) {
+      throw new ParserException("No point location value provided");
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+
+    final String representation = text.subSequence(start, end).toString();
+    final ParseContext context = new ParseContext();
+    if (!scanPointLocation(representation, 0, representation.length(), context)) {
+      throw context.toParserException(representation, 0, representation.length());
+    }
+    return new LazyPointLocation(
+        representation,
+        context.latitudeStart,
+        context.latitudeEnd,
+        context.longitudeStart,
+        context.longitudeEnd,
+        context.altitudeStart,
+        context.altitudeEnd,
+        context.crsStart,
+        context.crsEnd);
+  }
+
+  /**
+   * Checks the structure of a string representation of a point location, and returns a view that
+   * decodes each field only when it is first asked for. Coordinates that are laid out correctly
+   * are not checked for range until they are decoded.
+   *
+   * @param representation String representation of the point location
+   * @return Lazily decoded point location
+   * @throws ParserException If the point location is not laid out correctly
+   * @see #parseLazyPointLocation(CharSequence, int, int)
+   */
+  public static LazyPointLocation parseLazyPointLocation(final String representation)
+      throws ParserException {
+    if (StringUtils.isBlank(representation)) {
+      throw new ParserException("No point location value provided");
+    }
+    return parseLazyPointLocation(representation, 0, representation.length());
+  }
+
+  /**
+   * Parses a range of ASCII encoded bytes as a point location, without decoding or copying them.
+   *
+   * @param bytes Bytes containing the representation of the point location
+   * @param offset Index of the first byte of the point location
+   * @param length Number of bytes in the point location, including the terminating /
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public static PointLocation parsePointLocation(
+      final byte[] bytes, final int offset, final int length) throws ParserException {
+    if (bytes == null) {
+      throw new ParserException("No point location value provided");
+    }
+    final AsciiCharSequence text = new AsciiCharSequence(bytes, offset, length);
+    return parsePointLocation(text, 0, length);
+  }
+
+  /**
+   * Parses the remaining ASCII encoded bytes in a buffer, from the position to the limit, as a
+   * point location, without decoding or copying them. Both heap and direct buffers are supported.
+   * The position of the buffer is not changed.
+   *
+   * @param buffer Buffer containing the representation of the point location
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public static PointLocation parsePointLocation(final ByteBuffer buffer) throws ParserException {
+    if (buffer == null) {
+      throw new ParserException("No point location value provided");
+    }
+    return parsePointLocation(buffer, buffer.position(), buffer.remaining());
+  }
+
+  /**
+   * Parses a range of ASCII encoded bytes in a buffer as a point location, without decoding or
+   * copying them. Both heap and direct buffers are supported. The index is absolute, and the
+   * position of the buffer is not changed.
+   *
+   * @param buffer Buffer containing the representation of the point location
+   * @param index Absolute index of the first byte of the point location
+   * @param length Number of bytes in the point location, including the terminating /
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public static PointLocation parsePointLocation(
+      final ByteBuffer buffer, final int index, final int length) throws ParserException {
+    if (buffer == null) {
+      throw new ParserException("No point location value provided");
+    }
+    final AsciiCharSequence text = new AsciiCharSequence(buffer, index, length);
+    return parsePointLocation(text, 0, length);
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location, without copying it. This allows
+   * records to be parsed directly out of a large buffer, such as a {@link java.nio.CharBuffer} or a
+   * {@link StringBuilder}. The indices are relative to the character sequence, so for a {@link
+   * java.nio.CharBuffer} they are relative to the buffer position.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @return Point location
+   * @throws ParserException On an exception
+   */
+  public static PointLocation parsePointLocation(
+      final CharSequence text, final int start, final int end) throws ParserException {
+    if (text == null) {
+      throw new ParserException("No point location value provided");
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+
+    final ParseContext context = new ParseContext();
+    final PointLocation pointLocation = parsePointLocation(text, start, end, context);
+    if (pointLocation == null) {
+      throw context.toParserException(text, start, end);
+    }
+    return pointLocation;
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location, into a reusable holder, without
+   * creating any objects for a well-formed record.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @param holder Holder to fill in place
+   * @throws ParserException On an exception
+   */
+  public static void parsePointLocation(
+      final CharSequence text, final int start, final int end, final PointLocationHolder holder)
+      throws ParserException {
+    if (text == null) {
+      throw new ParserException("No point location value provided");
+    }
+    if (!tryParsePointLocation(text, start, end, holder)) {
+      throw holder.context.toParserException(text, start, end);
+    }
+  }
+
   /**
    * Parses a string representation of the point location.
    *
@@ -36,61 +303,579 @@ public final class PointLocationParser {
     if (StringUtils.isBlank(representation)) {
       throw new ParserException("No point location value provided");
     }
-    if (!StringUtils.endsWith(representation, "/")) {
-      throw new ParserException("Point location value must be terminated with /");
+    return parsePointLocation(representation, 0, representation.length());
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location, without throwing an exception if
+   * it cannot be parsed. This is much cheaper than catching a {@link ParserException} when invalid
+   * input is common.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @return Result with either the point location, or the reason for the failure
+   * @throws IndexOutOfBoundsException If the region is not within the character sequence
+   */
+  public static ParseResult tryParsePointLocation(
+      final CharSequence text, final int start, final int end) {
+    if (text == null) {
+      return ParseResult.failure(ParseStatus.NO_VALUE, 0);
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+
+    final ParseContext context = new ParseContext();
+    final PointLocation pointLocation = parsePointLocation(text, start, end, context);
+    if (pointLocation == null) {
+      return ParseResult.failure(context.getStatus(), context.getErrorIndex() - start);
+    }
+    return ParseResult.success(pointLocation);
+  }
+
+  /**
+   * Parses a batch of point locations in parallel on the common fork-join pool. A record that
+   * cannot be parsed does not stop the batch, and is reported as an error with its index.
+   *
+   * @param representations String representations of the point locations
+   * @return Parsed point locations in input order, and errors
+   */
+  public static BatchParseResult parsePointLocations(final List<String> representations) {
+    return parsePointLocations(representations, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses a batch of point locations in parallel on a fork-join pool. A record that cannot be
+   * parsed does not stop the batch, and is reported as an error with its index.
+   *
+   * @param representations String representations of the point locations
+   * @param pool Fork-join pool to parse on
+   * @return Parsed point locations in input order, and errors
+   */
+  public static BatchParseResult parsePointLocations(
+      final List<String> representations, final ForkJoinPool pool) {
+    if (representations == null) {
+      throw new IllegalArgumentException("No point locations provided");
+    }
+    return parsePointLocations(representations.toArray(new String[0]), pool);
+  }
+
+  /**
+   * Parses a batch of point locations in parallel on the common fork-join pool. A record that
+   * cannot be parsed does not stop the batch, and is reported as an error with its index.
+   *
+   * @param representations String representations of the point locations
+   * @return Parsed point locations in input order, and errors
+   */
+  public static BatchParseResult parsePointLocations(final String[] representations) {
+    return parsePointLocations(representations, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses a batch of point locations in parallel on a fork-join pool. The batch is split into
+   * tasks sized to the batch and the parallelism of the pool, and small batches are parsed on the
+   * calling thread. A record that cannot be parsed does not stop the batch, and is reported as an
+   * error with its index.
+   *
+   * @param representations String representations of the point locations
+   * @param pool Fork-join pool to parse on
+   * @return Parsed point locations in input order, and errors
+   */
+  public static BatchParseResult parsePointLocations(
+      final String[] representations, final ForkJoinPool pool) {
+    if (representations == null) {
+      throw new IllegalArgumentException("No point locations provided");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("No fork-join pool provided");
+    }
+
+    final int size = representations.length;
+    final PointLocation[] pointLocations = new PointLocation[size];
+    final List<ParseError> errors;
+    if (size <= MINIMUM_LEAF_SIZE) {
+      errors = parseRange(representations, pointLocations, 0, size);
+    } else {
+      final int tasks = pool.getParallelism() * TASKS_PER_THREAD;
+      final int leafSize = Math.max(MINIMUM_LEAF_SIZE, (size + tasks - 1) / tasks);
+      errors = pool.invoke(new BatchParseTask(representations, pointLocations, 0, size, leafSize));
+    }
+    return new BatchParseResult(pointLocations, errors);
+  }
+
+  /**
+   * Parses a batch of point locations on the calling thread, straight into columns of degrees,
+   * through a single {@link PointLocationHolder}, without creating a point location, or any other
+   * object, for a record. Altitudes are filled in only if an array is provided, and coordinate
+   * reference system identifiers are checked, but not kept. Columns for records that cannot be
+   * parsed are set to NaN, and the records are reported as errors with their index. The values are
+   * not converted to radians and back, so they can differ in the last digit from the degrees of a
+   * parsed {@link PointLocation}.
+   *
+   * @param representations String representations of the point locations
+   * @param latitudes Latitudes in degrees, filled from index 0
+   * @param longitudes Longitudes in degrees, filled from index 0
+   * @param altitudes Altitudes, filled from index 0, or null if they are not needed
+   * @return Errors, in input order
+   * @throws IllegalArgumentException If an array is missing, or is too short for the batch
+   */
+  public static List<ParseError> parsePointLocations(
+      final String[] representations,
+      final double[] latitudes,
+      final double[] longitudes,
+      final double[] altitudes) {
+    if (representations == null) {
+      throw new IllegalArgumentException("No point locations provided");
+    }
+    final int size = representations.length;
+    if (latitudes == null || longitudes == null) {
+      throw new IllegalArgumentException("No arrays provided for coordinates");
+    }
+    if (latitudes.length < size
+        || longitudes.length < size
+        || altitudes != null && altitudes.length < size) {
+      throw new IllegalArgumentException("Arrays are too short for " + size + " point locations");
+    }
+
+    final List<ParseError> errors = new ArrayList<>();
+    final PointLocationHolder holder = new PointLocationHolder();
+    for (int i = 0; i < size; i++) {
+      final String representation = representations[i];
+      if (representation != null
+          && tryParsePointLocation(representation, 0, representation.length(), holder)) {
+        latitudes[i] = holder.getLatitudeDegrees();
+        longitudes[i] = holder.getLongitudeDegrees();
+        if (altitudes != null) {
+          altitudes[i] = holder.getAltitude();
+        }
+        continue;
+      }
+
+      latitudes[i] = Double.NaN;
+      longitudes[i] = Double.NaN;
+      if (altitudes != null) {
+        altitudes[i] = Double.NaN;
+      }
+      if (representation == null) {
+        errors.add(new ParseError(i, ParseStatus.NO_VALUE, 0));
+      } else {
+        errors.add(new ParseError(i, holder.getStatus(), holder.getErrorOffset()));
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location, into a reusable holder, without
+   * throwing an exception if it cannot be parsed. No objects are created, whether or not the parse
+   * succeeds, so a single-threaded consumer can parse any number of records with one holder.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @param holder Holder to fill in place, which also records the reason for a failure
+   * @return True if the point location was parsed
+   * @throws IndexOutOfBoundsException If the region is not within the character sequence
+   */
+  public static boolean tryParsePointLocation(
+      final CharSequence text, final int start, final int end, final PointLocationHolder holder) {
+    Objects.requireNonNull(holder, "No holder provided");
+    holder.reset(start);
+    final ParseContext context = holder.context;
+    if (text == null) {
+      context.fail(ParseStatus.NO_VALUE, start);
+      return false;
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+    if (!scanPointLocation(text, start, end, context)) {
+      return false;
+    }
+
+    final double latitude =
+        COORDINATE_PARSER.parseLatitudeDegrees(
+            text, context.latitudeStart, context.latitudeEnd, context);
+    if (context.isFailed()) {
+      return false;
+    }
+    final double longitude =
+        COORDINATE_PARSER.parseLongitudeDegrees(
+            text, context.longitudeStart, context.longitudeEnd, context);
+    if (context.isFailed()) {
+      return false;
+    }
+    final double altitude = parseOptionalAltitude(text, context);
+
+    // The coordinate reference system identifier is referred to, but not copied
+    if (context.crsStart == context.crsEnd) {
+      holder.set(latitude, longitude, altitude, null, 0, 0);
+    } else {
+      holder.set(latitude, longitude, altitude, text, context.crsStart, context.crsEnd);
+    }
+    return true;
+  }
+
+  /**
+   * Parses a string representation of the point location, without throwing an exception if it
+   * cannot be parsed.
+   *
+   * @param representation String representation of the point location
+   * @return Result with either the point location, or the reason for the failure
+   */
+  public static ParseResult tryParsePointLocation(final String representation) {
+    if (representation == null) {
+      return ParseResult.failure(ParseStatus.NO_VALUE, 0);
+    }
+    return tryParsePointLocation(representation, 0, representation.length());
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location in decimal degrees, recording any
+   * failure in the context instead of throwing an exception.
+   *
+   * @param text Character sequence containing the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location
+   * @param context Context to record a failure in
+   * @return Point location, or null if it cannot be parsed
+   */
+  static PointLocation parseDecimalDegrees(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    final int trimmedStart = trimStart(text, start, end);
+    final int trimmedEnd = trimEnd(text, trimmedStart, end);
+    if (trimmedStart == trimmedEnd) {
+      context.fail(ParseStatus.NO_VALUE, start);
+      return null;
     }
 
-    final PointLocationParser parser = new PointLocationParser();
-    final CoordinateParser coordinateParser = new CoordinateParser();
-    // Split by group
-    final List<String> tokens = parser.split(representation);
-    if (tokens.size() != 4) {
-      throw new ParserException("Cannot parse " + representation);
+    // Latitude and longitude, separated by a comma
+    final int latitudeStart = trimmedStart;
+    final int latitudeEnd = findDecimalEnd(text, latitudeStart, trimmedEnd);
+    int index = trimStart(text, latitudeEnd, trimmedEnd);
+    if (latitudeEnd == latitudeStart || index == trimmedEnd || text.charAt(index) != ',') {
+      context.fail(ParseStatus.MISSING_COORDINATES, index);
+      return null;
+    }
+    final int longitudeStart = trimStart(text, index + 1, trimmedEnd);
+    final int longitudeEnd = findDecimalEnd(text, longitudeStart, trimmedEnd);
+    if (longitudeEnd == longitudeStart) {
+      context.fail(ParseStatus.MISSING_COORDINATES, longitudeStart);
+      return null;
+    }
+
+    // Optional altitude, after another comma
+    index = trimStart(text, longitudeEnd, trimmedEnd);
+    double altitude = 0;
+    if (index < trimmedEnd) {
+      if (text.charAt(index) != ',') {
+        context.fail(ParseStatus.UNEXPECTED_CHARACTER, index);
+        return null;
+      }
+      final int altitudeStart = trimStart(text, index + 1, trimmedEnd);
+      final int altitudeEnd = findDecimalEnd(text, altitudeStart, trimmedEnd);
+      if (altitudeEnd == altitudeStart || altitudeEnd != trimmedEnd) {
+        context.fail(ParseStatus.UNEXPECTED_CHARACTER, altitudeEnd);
+        return null;
+      }
+      altitude = parseDecimal(text, altitudeStart, altitudeEnd);
     }
 
-    final Latitude latitude = coordinateParser.parseLatitude(tokens.get(0));
-    final Longitude longitude = coordinateParser.parseLongitude(tokens.get(1));
-    final double altitude = NumberUtils.toDouble(tokens.get(2));
-    final String coordinateReferenceSystemIdentifier = StringUtils.trimToEmpty(tokens.get(3));
+    final Latitude latitude =
+        COORDINATE_PARSER.toLatitude(
+            parseDecimal(text, latitudeStart, latitudeEnd), latitudeStart, context);
+    if (latitude == null) {
+      return null;
+    }
+    // Decimal degrees are not in ISO 6709 notation, so allow the 180th meridian either way
+    double longitudeDegrees = parseDecimal(text, longitudeStart, longitudeEnd);
+    if (longitudeDegrees == 180) {
+      longitudeDegrees = -180;
+    }
+    final Longitude longitude =
+        COORDINATE_PARSER.toLongitude(longitudeDegrees, longitudeStart, context);
+    if (longitude == null) {
+      return null;
+    }
+    return new PointLocation(latitude, longitude, altitude, "");
+  }
+
+  /**
+   * Parses a region of a character sequence as a point location, recording any failure in the
+   * context instead of throwing an exception.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @param context Context to record a failure in
+   * @return Point location, or null if it cannot be parsed
+   */
+  static PointLocation parsePointLocation(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    if (!scanPointLocation(text, start, end, context)) {
+      return null;
+    }
+
+    final Latitude latitude =
+        COORDINATE_PARSER.parseLatitude(text, context.latitudeStart, context.latitudeEnd, context);
+    if (latitude == null) {
+      return null;
+    }
+    final Longitude longitude =
+        COORDINATE_PARSER.parseLongitude(
+            text, context.longitudeStart, context.longitudeEnd, context);
+    if (longitude == null) {
+      return null;
+    }
+    final double altitude = parseOptionalAltitude(text, context);
+    final String coordinateReferenceSystemIdentifier =
+        text.subSequence(context.crsStart, context.crsEnd).toString();
 
     final PointLocation pointLocation =
         new PointLocation(latitude, longitude, altitude, coordinateReferenceSystemIdentifier);
     return pointLocation;
   }
 
-  private final Pattern patternCoordinates = Pattern.compile("([NSEW\\+\\-]\\d+\\.?\\d*)");
-  private final Pattern patternCRS = Pattern.compile(".*CRS(.*)\\/");
+  /**
+   * Scans the layout of a region of a character sequence as an ISO 6709 point location, and
+   * records the bounds of each field in the context, without decoding any of them. Every parse path
+   * checks the structure of a point location here, so that they all accept the same grammar.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @param context Context to record the bounds, or a failure, in
+   * @return True if the point location is laid out correctly
+   */
+  static boolean scanPointLocation(
+      final CharSequence text, final int start, final int end, final ParseContext context) {
+    if (trimStart(text, start, end) == end) {
+      context.fail(ParseStatus.NO_VALUE, start);
+      return false;
+    }
+    if (text.charAt(end - 1) != '/') {
+      context.fail(ParseStatus.NOT_TERMINATED, end - 1);
+      return false;
+    }
+
+    final int terminator = end - 1;
+
+    // Latitude and longitude
+    final int latitudeStart = trimStart(text, start, terminator);
+    final int latitudeEnd = findNumberEnd(text, latitudeStart, terminator, true);
+    final int longitudeStart = trimStart(text, latitudeEnd, terminator);
+    final int longitudeEnd = findNumberEnd(text, longitudeStart, terminator, true);
+    if (latitudeEnd == latitudeStart || longitudeEnd == longitudeStart) {
+      context.fail(ParseStatus.MISSING_COORDINATES, longitudeStart);
+      return false;
+    }
+
+    // Optional altitude
+    final int altitudeStart = trimStart(text, longitudeEnd, terminator);
+    final int altitudeEnd = findNumberEnd(text, altitudeStart, terminator, false);
+
+    // Optional coordinate reference system identifier
+    final int crsPrefixStart = trimStart(text, altitudeEnd, terminator);
+    if (crsPrefixStart == terminator) {
+      context.crsStart = terminator;
+      context.crsEnd = terminator;
+    } else if (isCRSPrefix(text, crsPrefixStart, terminator)) {
+      // The identifier is trimmed, as a point location trims it
+      context.crsEnd = trimEnd(text, crsPrefixStart, terminator);
+      context.crsStart = trimStart(text, crsPrefixStart + CRS_PREFIX.length(), context.crsEnd);
+    } else {
+      context.fail(ParseStatus.UNEXPECTED_CHARACTER, crsPrefixStart);
+      return false;
+    }
 
-  private List<String> split(final String representation) throws ParserException {
-    final List<String> tokens = new ArrayList<>();
+    context.latitudeStart = latitudeStart;
+    context.latitudeEnd = latitudeEnd;
+    context.longitudeStart = longitudeStart;
+    context.longitudeEnd = longitudeEnd;
+    context.altitudeStart = altitudeStart;
+    context.altitudeEnd = altitudeEnd;
+    return true;
+  }
 
-    final Matcher matcherCoordinates = patternCoordinates.matcher(representation);
-    while (matcherCoordinates.find()) {
-      final String token = matcherCoordinates.group(1);
-      if (StringUtils.isNotBlank(token)) {
-        tokens.add(token);
+  /**
+   * Finds the end of a decimal number, such as <code>-75.00417</code>, with an optional sign and an
+   * optional exponent, starting at the given index.
+   *
+   * @return Index after the number, or the start index if there is no number at the start index
+   */
+  private static int findDecimalEnd(final CharSequence text, final int start, final int end) {
+    int index = start;
+    if (index < end && (text.charAt(index) == '+' || text.charAt(index) == '-')) {
+      index++;
+    }
+    final int digitsStart = index;
+    while (index < end && isDigit(text.charAt(index))) {
+      index++;
+    }
+    if (index < end && text.charAt(index) == '.') {
+      index++;
+      while (index < end && isDigit(text.charAt(index))) {
+        index++;
+      }
+    }
+    if (index == digitsStart || index == digitsStart + 1 && text.charAt(digitsStart) == '.') {
+      return start;
+    }
+    if (index < end && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+      int exponentIndex = index + 1;
+      if (exponentIndex < end
+          && (text.charAt(exponentIndex) == '+' || text.charAt(exponentIndex) == '-')) {
+        exponentIndex++;
+      }
+      final int exponentDigitsStart = exponentIndex;
+      while (exponentIndex < end && isDigit(text.charAt(exponentIndex))) {
+        exponentIndex++;
+      }
+      if (exponentIndex > exponentDigitsStart) {
+        index = exponentIndex;
       }
     }
-    if (tokens.size() < 2) {
-      throw new ParserException("Latitude and longitude need to be provided in " + representation);
+    return index;
+  }
+
+  /**
+   * Finds the end of a signed number, such as <code>+401213.1</code>, starting at the given index.
+   * Coordinates may also be signed with a compass direction.
+   *
+   * @return Index after the number, or the start index if there is no number at the start index
+   */
+  static int findNumberEnd(
+      final CharSequence text, final int start, final int end, final boolean isCoordinate) {
+    if (start >= end) {
+      return start;
     }
-    if (tokens.size() == 2) {
-      // Add altitude
-      tokens.add("0");
+    switch (text.charAt(start)) {
+      case '+':
+      case '-':
+        break;
+      case 'N':
+      case 'S':
+      case 'E':
+      case 'W':
+        if (isCoordinate) {
+          break;
+        }
+        return start;
+      default:
+        return start;
     }
 
-    final Matcher matcherCRS = patternCRS.matcher(representation);
-    while (matcherCRS.find()) {
-      final String token = matcherCRS.group(1);
-      if (StringUtils.isNotBlank(token)) {
-        tokens.add(token);
+    int index = start + 1;
+    while (index < end && isDigit(text.charAt(index))) {
+      index++;
+    }
+    if (index == start + 1) {
+      return start;
+    }
+    if (index < end && text.charAt(index) == '.') {
+      index++;
+      while (index < end && isDigit(text.charAt(index))) {
+        index++;
+      }
+    }
+    return index;
+  }
+
+  static boolean isCRSPrefix(final CharSequence text, final int start, final int end) {
+    if (end - start < CRS_PREFIX.length()) {
+      return false;
+    }
+    for (int i = 0; i < CRS_PREFIX.length(); i++) {
+      if (text.charAt(start + i) != CRS_PREFIX.charAt(i)) {
+        return false;
       }
     }
-    if (tokens.size() == 3) {
-      // Add CRS
-      tokens.add("");
+    return true;
+  }
+
+  static double parseAltitude(final CharSequence text, final int start, final int end) {
+    final int integerStart = start + 1;
+    int integerEnd = integerStart;
+    while (integerEnd < end && isDigit(text.charAt(integerEnd))) {
+      integerEnd++;
+    }
+    final int fractionStart = Math.min(integerEnd + 1, end);
+    final double altitude = parseDigits(text, integerStart, integerEnd, fractionStart, end);
+    if (text.charAt(start) == '-') {
+      return -altitude;
+    } else {
+      return altitude;
+    }
+  }
+
+  /**
+   * Parses a decimal number found by {@link #findDecimalEnd(CharSequence, int, int)}. Numbers
+   * without an exponent, and with up to 15 significant digits, which includes every coordinate in
+   * practice, are converted exactly by dividing by a power of ten. Anything else falls back to the
+   * library.
+   */
+  private static double parseDecimal(final CharSequence text, final int start, final int end) {
+    int index = start;
+    final boolean isNegative = text.charAt(index) == '-';
+    if (isNegative || text.charAt(index) == '+') {
+      index++;
+    }
+    final int integerStart = index;
+    while (index < end && isDigit(text.charAt(index))) {
+      index++;
     }
+    final int integerEnd = index;
+    int fractionStart = integerEnd;
+    if (index < end && text.charAt(index) == '.') {
+      index++;
+      fractionStart = index;
+      while (index < end && isDigit(text.charAt(index))) {
+        index++;
+      }
+    }
+    final double value;
+    if (index < end) {
+      // Exponent
+      value = Double.parseDouble(text.subSequence(integerStart, end).toString());
+    } else {
+      value = parseDigits(text, integerStart, integerEnd, fractionStart, index);
+    }
+    return isNegative ? -value : value;
+  }
+
+  /** Parses the altitude that was scanned into the context, or 0 if there is none. */
+  private static double parseOptionalAltitude(final CharSequence text, final ParseContext context) {
+    if (context.altitudeEnd == context.altitudeStart) {
+      return 0;
+    }
+    return parseAltitude(text, context.altitudeStart, context.altitudeEnd);
+  }
+
+  /**
+   * Parses a range of a batch of point locations on the current thread, reusing one context.
+   *
+   * @return Errors, in input order
+   */
+  private static List<ParseError> parseRange(
+      final String[] representations,
+      final PointLocation[] pointLocations,
+      final int start,
+      final int end) {
+    final List<ParseError> errors = new ArrayList<>();
+    final ParseContext context = new ParseContext();
+    for (int i = start; i < end; i++) {
+      final String representation = representations[i];
+      if (representation == null) {
+        errors.add(new ParseError(i, ParseStatus.NO_VALUE, 0));
+        continue;
+      }
+      context.reset();
+      pointLocations[i] = parsePointLocation(representation, 0, representation.length(), context);
+      if (pointLocations[i] == null) {
+        errors.add(new ParseError(i, context.getStatus(), context.getErrorIndex()));
+      }
+    }
+    return errors;
+  }
 
-    return tokens;
+  private PointLocationParser() {
+    // Prevent instantiation
   }
 }
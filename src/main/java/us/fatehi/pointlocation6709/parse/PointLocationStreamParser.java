@@ -0,0 +1,254 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Parses a stream of ASCII encoded ISO 6709 point locations, each terminated by a /, which arrives
+ * in chunks split at arbitrary byte boundaries. Chunks are pushed in as they arrive, and each
+ * complete point location is passed to a consumer. Records do not need to be separated by line
+ * terminators, but whitespace between them is allowed.
+ *
+ * <p>A record that lies completely within a chunk is parsed directly from that chunk, without
+ * copying it. Only the partial record at the end of a chunk is copied, into a buffer with a fixed
+ * size, and completed from the next chunk. So memory use does not grow with the size of the
+ * stream. A record that is split across chunks, and is longer than the buffer, is reported as an
+ * error, and skipped.
+ *
+ * <p>Records that cannot be parsed are either passed to an error handler, or thrown from {@link
+ * #parse(ByteBuffer)} after the bad record has been consumed, so that parsing can resume with the
+ * rest of the buffer. Since a / ends a record, coordinate reference system identifiers in the
+ * stream cannot contain a /.
+ *
+ * <p>Instances are not thread-safe, and hold the state of a single stream.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationStreamParser {
+
+  /** Default largest length of a record, in bytes, including the terminating /. */
+  public static final int DEFAULT_MAXIMUM_RECORD_LENGTH = 1024;
+
+  private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+  private final Consumer<? super PointLocation> consumer;
+  private final Consumer<? super ParserException> errorHandler;
+  private final ParseContext context = new ParseContext();
+  private final byte[] pending;
+  private final AsciiCharSequence pendingText;
+  private int pendingLength;
+  private boolean isPendingTooLong;
+  private long pointLocationCount;
+  private long errorCount;
+
+  /**
+   * Constructor, for a parser that throws an exception for records that cannot be parsed.
+   *
+   * @param consumer Receives every point location, in stream order
+   */
+  public PointLocationStreamParser(final Consumer<? super PointLocation> consumer) {
+    this(consumer, null, DEFAULT_MAXIMUM_RECORD_LENGTH);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param consumer Receives every point location, in stream order
+   * @param errorHandler Receives an exception for every record that cannot be parsed, or null to
+   *     throw the exception instead
+   * @param maximumRecordLength Largest length of a record, in bytes, including the terminating /
+   */
+  public PointLocationStreamParser(
+      final Consumer<? super PointLocation> consumer,
+      final Consumer<? super ParserException> errorHandler,
+      final int maximumRecordLength) {
+    this.consumer = Objects.requireNonNull(consumer, "No consumer provided");
+    if (maximumRecordLength <= 0) {
+      throw new IllegalArgumentException("Record length must be positive");
+    }
+    this.errorHandler = errorHandler;
+    pending = new byte[maximumRecordLength];
+    pendingText = new AsciiCharSequence(pending, 0, maximumRecordLength);
+  }
+
+  /**
+   * Ends the stream. Anything other than whitespace after the last terminating / is an incomplete
+   * record, and is reported as an error. The parser is ready for a new stream afterwards.
+   *
+   * @throws ParserException If there is an incomplete record, and there is no error handler
+   */
+  public void finish() throws ParserException {
+    final boolean isIncomplete = pendingLength > 0 || isPendingTooLong;
+    pendingLength = 0;
+    isPendingTooLong = false;
+    if (isIncomplete) {
+      error(new ParserException(ParseStatus.NOT_TERMINATED.getDescription()));
+    }
+  }
+
+  /**
+   * Number of records that could not be parsed so far.
+   *
+   * @return Number of errors
+   */
+  public long getErrorCount() {
+    return errorCount;
+  }
+
+  /**
+   * Number of point locations parsed so far.
+   *
+   * @return Number of point locations
+   */
+  public long getPointLocationCount() {
+    return pointLocationCount;
+  }
+
+  /**
+   * Parses the remaining bytes in a buffer, from the position to the limit. Complete records are
+   * passed to the consumer, and a partial record at the end is kept until the next chunk arrives.
+   * The position of the buffer is moved to the limit, or to just after a bad record if an exception
+   * is thrown.
+   *
+   * @param buffer Next chunk of the stream
+   * @throws ParserException If a record cannot be parsed, and there is no error handler
+   */
+  public void parse(final ByteBuffer buffer) throws ParserException {
+    Objects.requireNonNull(buffer, "No buffer provided");
+    final int limit = buffer.limit();
+    AsciiCharSequence text = null;
+    int position = buffer.position();
+    while (position < limit) {
+      final int terminator = findTerminator(buffer, position, limit);
+      if (terminator == limit) {
+        keep(buffer, position, limit);
+        buffer.position(limit);
+        return;
+      }
+
+      final int recordEnd = terminator + 1;
+      final int recordStart = position;
+      position = recordEnd;
+      buffer.position(recordEnd);
+      if (pendingLength == 0 && !isPendingTooLong) {
+        // The whole record is in this chunk
+        if (text == null) {
+          text = new AsciiCharSequence(buffer, 0, limit);
+        }
+        parseRecord(text, recordStart, recordEnd);
+      } else {
+        keep(buffer, recordStart, recordEnd);
+        final boolean isTooLong = isPendingTooLong;
+        final int length = pendingLength;
+        pendingLength = 0;
+        isPendingTooLong = false;
+        if (isTooLong) {
+          error(
+              new ParserException(
+                  ParseStatus.TOO_LONG.getDescription() + ", over " + pending.length + " bytes"));
+        } else {
+          parseRecord(pendingText, 0, length);
+        }
+      }
+    }
+  }
+
+  /**
+   * Parses a range of bytes. Complete records are passed to the consumer, and a partial record at
+   * the end is kept until the next chunk arrives.
+   *
+   * @param bytes Next chunk of the stream
+   * @param offset Index of the first byte of the chunk
+   * @param length Number of bytes in the chunk
+   * @throws ParserException If a record cannot be parsed, and there is no error handler
+   */
+  public void parse(final byte[] bytes, final int offset, final int length)
+      throws ParserException {
+    Objects.requireNonNull(bytes, "No bytes provided");
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    parse(ByteBuffer.wrap(bytes, offset, length));
+  }
+
+  /**
+   * Reads a channel to the end, parsing as it goes, and then ends the stream. Memory use does not
+   * depend on the length of the stream. The channel is not closed.
+   *
+   * @param channel Channel to read
+   * @return Number of point locations parsed from the channel
+   * @throws IOException On an i/o error
+   * @throws ParserException If a record cannot be parsed, and there is no error handler
+   */
+  public long parse(final ReadableByteChannel channel) throws IOException, ParserException {
+    Objects.requireNonNull(channel, "No channel provided");
+    final long startCount = pointLocationCount;
+    final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    while (channel.read(buffer) >= 0) {
+      buffer.flip();
+      parse(buffer);
+      buffer.clear();
+    }
+    finish();
+    return pointLocationCount - startCount;
+  }
+
+  private void error(final ParserException exception) throws ParserException {
+    errorCount++;
+    if (errorHandler == null) {
+      throw exception;
+    }
+    errorHandler.accept(exception);
+  }
+
+  /** Finds the index of the next /, or the end if there is none. */
+  private static int findTerminator(final ByteBuffer buffer, final int start, final int end) {
+    int index = start;
+    while (index < end && buffer.get(index) != '/') {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Copies part of a record, to be completed from the next chunk. Whitespace before a record is
+   * dropped, and a record that does not fit is marked to be skipped.
+   */
+  private void keep(final ByteBuffer buffer, final int start, final int end) {
+    int index = start;
+    if (pendingLength == 0) {
+      while (index < end && (buffer.get(index) & 0xFF) <= ' ') {
+        index++;
+      }
+    }
+    final int length = end - index;
+    if (isPendingTooLong || length > pending.length - pendingLength) {
+      isPendingTooLong = true;
+      pendingLength = 0;
+      return;
+    }
+    buffer.get(index, pending, pendingLength, length);
+    pendingLength = pendingLength + length;
+  }
+
+  private void parseRecord(final AsciiCharSequence text, final int start, final int end)
+      throws ParserException {
+    context.reset();
+    final PointLocation pointLocation =
+        PointLocationParser.parsePointLocation(text, start, end, context);
+    if (pointLocation == null) {
+      error(context.toParserException(text, start, end));
+      return;
+    }
+    pointLocationCount++;
+    consumer.accept(pointLocation);
+  }
+}
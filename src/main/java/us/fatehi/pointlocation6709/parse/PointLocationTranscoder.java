@@ -0,0 +1,608 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.detectTrimmedFormat;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.getAngleField;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.getCompassSign;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.isDigit;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimEnd;
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.trimStart;
+import static us.fatehi.pointlocation6709.parse.PointLocationParser.CRS_PREFIX;
+import static us.fatehi.pointlocation6709.parse.PointLocationParser.scanPointLocation;
+
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+
+/**
+ * Rewrites ISO 6709 representations into one of the compact ISO 6709 formats, without parsing
+ * them into point locations, and without floating point arithmetic. Coordinates are read as an
+ * exact whole number of picoseconds of arc, and the sexagesimal fields are computed from that
+ * with integer arithmetic, so the output never depends on round-off. Digits finer than a
+ * picosecond of arc are only used to break ties.
+ *
+ * <p>The sexagesimal formats use the rounding rules of the point location formatter, applied to
+ * the exact value, so the output is the same as the formatter's, except where floating point
+ * nudges a value across a rounding boundary. The decimal format is rounded to the nearest 0.00001
+ * degree, and whole degrees are taken from the same rounded value, so a value such as 10.999999 is
+ * written as 11.00000. Decimal points are always written as <code>.</code>, whatever the default
+ * locale. Input is checked by the same rules as the parsers, and fails with the same errors. The
+ * {@link PointLocationFormatType#LONG}, {@link PointLocationFormatType#MEDIUM}, {@link
+ * PointLocationFormatType#SHORT} and {@link PointLocationFormatType#DECIMAL} formats are supported.
+ *
+ * <p>All methods are static and thread-safe.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationTranscoder {
+
+  private static final long UNITS_PER_SECOND = 1_000_000_000_000L;
+  private static final long UNITS_PER_MINUTE = 60 * UNITS_PER_SECOND;
+  private static final long UNITS_PER_DEGREE = 3600 * UNITS_PER_SECOND;
+  // Degrees in the decimal format have five fraction digits
+  private static final long DECIMAL_STEPS_PER_DEGREE = 100_000;
+  private static final long UNITS_PER_DECIMAL_STEP = UNITS_PER_DEGREE / DECIMAL_STEPS_PER_DEGREE;
+  private static final int ALTITUDE_FRACTION_DIGITS = 5;
+
+  private static final CoordinateParser COORDINATE_PARSER = new CoordinateParser();
+
+  /**
+   * Rewrites a region of a character sequence with a latitude, in either the ISO 6709 compact
+   * format or a human readable format, into a compact ISO 6709 format.
+   *
+   * @param text Character sequence containing the representation of the latitude
+   * @param start Index of the first character of the latitude
+   * @param end Index after the last character of the latitude
+   * @param formatType Format type to write
+   * @param buffer Buffer to append to
+   * @throws ParserException If the latitude cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static void transcodeLatitude(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws ParserException, FormatterException {
+    transcodeCoordinate(text, start, end, false, formatType, buffer);
+  }
+
+  /**
+   * Rewrites a latitude, in either the ISO 6709 compact format or a human readable format, into a
+   * compact ISO 6709 format.
+   *
+   * @param latitudeString String representation of the latitude
+   * @param formatType Format type to write
+   * @return Rewritten latitude
+   * @throws ParserException If the latitude cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static String transcodeLatitude(
+      final String latitudeString, final PointLocationFormatType formatType)
+      throws ParserException, FormatterException {
+    if (latitudeString == null) {
+      throw new ParserException("No value provided");
+    }
+    final StringBuilder buffer = new StringBuilder(16);
+    transcodeLatitude(latitudeString, 0, latitudeString.length(), formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Rewrites a region of a character sequence with a longitude, in either the ISO 6709 compact
+   * format or a human readable format, into a compact ISO 6709 format.
+   *
+   * @param text Character sequence containing the representation of the longitude
+   * @param start Index of the first character of the longitude
+   * @param end Index after the last character of the longitude
+   * @param formatType Format type to write
+   * @param buffer Buffer to append to
+   * @throws ParserException If the longitude cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static void transcodeLongitude(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws ParserException, FormatterException {
+    transcodeCoordinate(text, start, end, true, formatType, buffer);
+  }
+
+  /**
+   * Rewrites a longitude, in either the ISO 6709 compact format or a human readable format, into a
+   * compact ISO 6709 format.
+   *
+   * @param longitudeString String representation of the longitude
+   * @param formatType Format type to write
+   * @return Rewritten longitude
+   * @throws ParserException If the longitude cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static String transcodeLongitude(
+      final String longitudeString, final PointLocationFormatType formatType)
+      throws ParserException, FormatterException {
+    if (longitudeString == null) {
+      throw new ParserException("No value provided");
+    }
+    final StringBuilder buffer = new StringBuilder(16);
+    transcodeLongitude(longitudeString, 0, longitudeString.length(), formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Rewrites a region of a character sequence with an ISO 6709 point location, such as <code>
+   * +40.20361-075.00417/</code>, into a compact ISO 6709 format, such as <code>+401213-0750015/
+   * </code>. The altitude, and the coordinate reference system identifier, are carried over.
+   *
+   * @param text Character sequence containing the representation of the point location
+   * @param start Index of the first character of the point location
+   * @param end Index after the last character of the point location, which is the terminating /
+   * @param formatType Format type to write
+   * @param buffer Buffer to append to
+   * @throws ParserException If the point location cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static void transcodePointLocation(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws ParserException, FormatterException {
+    if (text == null) {
+      throw new ParserException("No point location value provided");
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+    checkFormatType(formatType);
+    Objects.requireNonNull(buffer, "No buffer provided");
+
+    final ParseContext context = new ParseContext();
+    if (!scanPointLocation(text, start, end, context)) {
+      throw context.toParserException(text, start, end);
+    }
+    // Coordinates are checked by the parser before they are read exactly
+    COORDINATE_PARSER.parseLatitudeDegrees(
+        text, context.latitudeStart, context.latitudeEnd, context);
+    if (!context.isFailed()) {
+      COORDINATE_PARSER.parseLongitudeDegrees(
+          text, context.longitudeStart, context.longitudeEnd, context);
+    }
+    if (context.isFailed()) {
+      throw context.toParserException(text, start, end);
+    }
+
+    appendCoordinate(
+        buffer, toExactValue(text, context.latitudeStart, context.latitudeEnd), false, formatType);
+    appendCoordinate(
+        buffer, toExactValue(text, context.longitudeStart, context.longitudeEnd), true, formatType);
+    if (context.altitudeEnd > context.altitudeStart) {
+      appendAltitude(buffer, text, context.altitudeStart, context.altitudeEnd);
+    }
+    if (context.crsEnd > context.crsStart) {
+      buffer.append(CRS_PREFIX).append(text, context.crsStart, context.crsEnd);
+    }
+    buffer.append('/');
+  }
+
+  /**
+   * Rewrites an ISO 6709 point location into a compact ISO 6709 format.
+   *
+   * @param representation String representation of the point location
+   * @param formatType Format type to write
+   * @return Rewritten point location
+   * @throws ParserException If the point location cannot be parsed
+   * @throws FormatterException If the format type is not supported
+   */
+  public static String transcodePointLocation(
+      final String representation, final PointLocationFormatType formatType)
+      throws ParserException, FormatterException {
+    if (StringUtils.isBlank(representation)) {
+      throw new ParserException("No point location value provided");
+    }
+    final StringBuilder buffer = new StringBuilder(32);
+    transcodePointLocation(representation, 0, representation.length(), formatType, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Adds the exact value of a number, made of integer digits and fraction digits, in units of a
+   * field, to an exact value.
+   *
+   * @return Exact value, in the same encoding as {@link #toExactValue(CharSequence, int, int)},
+   *     without a sign
+   */
+  private static long accumulate(
+      final long exactValue,
+      final CharSequence text,
+      final int integerStart,
+      final int integerEnd,
+      final int fractionStart,
+      final int fractionEnd,
+      final long unitsPerField) {
+    long units = exactValue >> 1;
+    long sticky = exactValue & 1;
+    long integer = 0;
+    for (int i = integerStart; i < integerEnd; i++) {
+      integer = integer * 10 + text.charAt(i) - '0';
+    }
+    units = units + integer * unitsPerField;
+    long place = unitsPerField;
+    for (int i = fractionStart; i < fractionEnd; i++) {
+      final int digit = text.charAt(i) - '0';
+      if (place % 10 == 0) {
+        place = place / 10;
+        units = units + digit * place;
+      } else if (digit != 0) {
+        sticky = 1;
+      }
+    }
+    return units << 1 | sticky;
+  }
+
+  /**
+   * Appends an altitude with five fraction digits, rounding half to even on the digits themselves,
+   * with a sign. Altitudes within a millionth of zero are left out, as the formatter does.
+   */
+  private static void appendAltitude(
+      final StringBuilder buffer, final CharSequence text, final int start, final int end) {
+    final int integerStart = start + 1;
+    int integerEnd = integerStart;
+    while (integerEnd < end && isDigit(text.charAt(integerEnd))) {
+      integerEnd++;
+    }
+    final int fractionStart = Math.min(integerEnd + 1, end);
+
+    // Leave out altitudes that are not more than 0.000001 from zero
+    int first = integerStart;
+    while (first < integerEnd - 1 && text.charAt(first) == '0') {
+      first++;
+    }
+    if (text.charAt(first) == '0') {
+      final int millionths = fractionDigits(text, fractionStart, end, 0, 6);
+      if (millionths < 1 || millionths == 1 && !hasNonZeroDigit(text, fractionStart + 6, end)) {
+        return;
+      }
+    }
+
+    // Round to even, on the first digit that is dropped, and any digits after it
+    final int droppedStart = fractionStart + ALTITUDE_FRACTION_DIGITS;
+    final int dropped = fractionDigits(text, droppedStart, end, 0, 1);
+    final boolean isRoundedUp =
+        dropped > 5
+            || dropped == 5
+                && (hasNonZeroDigit(text, droppedStart + 1, end)
+                    || fractionDigits(text, fractionStart, end, 4, 1) % 2 == 1);
+
+    // Kept digits are the integer digits followed by the fraction digits, and a carry turns
+    // trailing nines into zeros
+    final int integerLength = integerEnd - first;
+    final int length = integerLength + ALTITUDE_FRACTION_DIGITS;
+    int carryIndex = length;
+    if (isRoundedUp) {
+      carryIndex = length - 1;
+      while (carryIndex >= 0
+          && keptDigit(text, first, integerLength, fractionStart, end, carryIndex) == '9') {
+        carryIndex--;
+      }
+    }
+
+    buffer.append(text.charAt(start) == '-' ? '-' : '+');
+    if (carryIndex < 0) {
+      buffer.append('1');
+    }
+    for (int i = 0; i < length; i++) {
+      if (i == integerLength) {
+        buffer.append('.');
+      }
+      final char digit = keptDigit(text, first, integerLength, fractionStart, end, i);
+      if (i < carryIndex) {
+        buffer.append(digit);
+      } else if (i == carryIndex) {
+        buffer.append((char) (digit + 1));
+      } else {
+        buffer.append('0');
+      }
+    }
+  }
+
+  /**
+   * Appends a coordinate, from its exact value, in a compact ISO 6709 format. Sexagesimal formats
+   * use the rounding rules of the formatter, and the decimal format is rounded half to even, to the
+   * nearest step of 0.00001 degree.
+   */
+  private static void appendCoordinate(
+      final StringBuilder buffer,
+      final long exactValue,
+      final boolean isLongitude,
+      final PointLocationFormatType formatType) {
+    final long units = Math.abs(exactValue) >> 1;
+    final boolean isSticky = (Math.abs(exactValue) & 1) == 1;
+
+    if (formatType == PointLocationFormatType.DECIMAL) {
+      // Whole degrees and the fraction both come from the same rounded value, so a fraction that
+      // rounds up to a whole degree carries into the degrees
+      long steps = units / UNITS_PER_DECIMAL_STEP;
+      final long twiceDropped = units % UNITS_PER_DECIMAL_STEP * 2;
+      if (twiceDropped > UNITS_PER_DECIMAL_STEP
+          || twiceDropped == UNITS_PER_DECIMAL_STEP && (isSticky || steps % 2 == 1)) {
+        steps++;
+      }
+      final int degrees = (int) (steps / DECIMAL_STEPS_PER_DEGREE);
+      appendSign(buffer, exactValue, isLongitude, degrees);
+      appendDigits(buffer, degrees, isLongitude ? 3 : 2);
+      buffer.append('.');
+      appendDigits(buffer, (int) (steps % DECIMAL_STEPS_PER_DEGREE), 5);
+      return;
+    }
+
+    // Sexagesimal fields, from the value rounded half up to whole seconds
+    final long totalSeconds = (units + UNITS_PER_SECOND / 2) / UNITS_PER_SECOND;
+    final int degrees = (int) (totalSeconds / 3600);
+    int minutes = (int) (totalSeconds / 60 % 60);
+    final int seconds = (int) (totalSeconds % 60);
+
+    appendSign(buffer, exactValue, isLongitude, degrees);
+    appendDigits(buffer, degrees, isLongitude ? 3 : 2);
+    switch (formatType) {
+      case LONG:
+        appendDigits(buffer, minutes, 2);
+        appendDigits(buffer, seconds, 2);
+        break;
+      case MEDIUM:
+        if (minutes < 59 && seconds >= 30) {
+          minutes = minutes + 1;
+        }
+        appendDigits(buffer, minutes, 2);
+        break;
+      case SHORT:
+      default:
+        break;
+    }
+  }
+
+  private static void appendDigits(final StringBuilder buffer, final int value, final int width) {
+    int divisor = 1;
+    for (int i = 1; i < width || value / divisor >= 10; i++) {
+      divisor = divisor * 10;
+    }
+    for (; divisor > 0; divisor = divisor / 10) {
+      buffer.append((char) ('0' + value / divisor % 10));
+    }
+  }
+
+  /** Appends the sign of a coordinate. According to the ISO6709 standard, 180° is negative. */
+  private static void appendSign(
+      final StringBuilder buffer,
+      final long exactValue,
+      final boolean isLongitude,
+      final int roundedDegrees) {
+    buffer.append(exactValue < 0 || isLongitude && roundedDegrees == 180 ? '-' : '+');
+  }
+
+  private static void checkFormatType(final PointLocationFormatType formatType)
+      throws FormatterException {
+    if (formatType == null) {
+      throw new FormatterException("No format type provided");
+    }
+    switch (formatType) {
+      case LONG:
+      case MEDIUM:
+      case SHORT:
+      case DECIMAL:
+        break;
+      default:
+        throw new FormatterException("Unsupported format type");
+    }
+  }
+
+  /**
+   * Reads fraction digits as a whole number, with missing digits taken as zeros.
+   *
+   * @return Whole number made of the digits from the offset, for the count of digits
+   */
+  private static int fractionDigits(
+      final CharSequence text,
+      final int fractionStart,
+      final int fractionEnd,
+      final int offset,
+      final int count) {
+    int value = 0;
+    for (int i = fractionStart + offset; i < fractionStart + offset + count; i++) {
+      value = value * 10 + (i < fractionEnd ? text.charAt(i) - '0' : 0);
+    }
+    return value;
+  }
+
+  private static boolean hasNonZeroDigit(final CharSequence text, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) != '0') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Gets a digit of an altitude, counting the integer digits first, then the fraction digits. */
+  private static char keptDigit(
+      final CharSequence text,
+      final int integerStart,
+      final int integerLength,
+      final int fractionStart,
+      final int fractionEnd,
+      final int index) {
+    if (index < integerLength) {
+      return text.charAt(integerStart + index);
+    }
+    final int fractionIndex = fractionStart + index - integerLength;
+    return fractionIndex < fractionEnd ? text.charAt(fractionIndex) : '0';
+  }
+
+  private static void transcodeCoordinate(
+      final CharSequence text,
+      final int start,
+      final int end,
+      final boolean isLongitude,
+      final PointLocationFormatType formatType,
+      final StringBuilder buffer)
+      throws ParserException, FormatterException {
+    if (text == null) {
+      throw new ParserException("No value provided");
+    }
+    Objects.checkFromToIndex(start, end, text.length());
+    checkFormatType(formatType);
+    Objects.requireNonNull(buffer, "No buffer provided");
+
+    final ParseContext context = new ParseContext();
+    if (isLongitude) {
+      COORDINATE_PARSER.parseLongitudeDegrees(text, start, end, context);
+    } else {
+      COORDINATE_PARSER.parseLatitudeDegrees(text, start, end, context);
+    }
+    if (context.isFailed()) {
+      throw context.toParserException(text, start, end);
+    }
+    appendCoordinate(buffer, toExactValue(text, start, end), isLongitude, formatType);
+  }
+
+  /**
+   * Reads a coordinate that has already been checked by the parser, in either format, as an exact
+   * value. The value is encoded as a whole number of picoseconds of arc, shifted left by one bit,
+   * with the lowest bit set if there were non-zero digits finer than that. The sign of the encoded
+   * value is the sign of the coordinate.
+   */
+  private static long toExactValue(final CharSequence text, final int start, final int end) {
+    final int trimmedStart = trimStart(text, start, end);
+    final int trimmedEnd = trimEnd(text, trimmedStart, end);
+    long exactValue = 0;
+    int sign = 1;
+    if (detectTrimmedFormat(text, trimmedStart, trimmedEnd)
+        == CoordinateFormat.ISO6709_COMPACT) {
+      switch (text.charAt(trimmedStart)) {
+        case '-':
+        case 'S':
+        case 's':
+        case 'W':
+        case 'w':
+          sign = -1;
+          break;
+        default:
+          break;
+      }
+      final int angleStart = trimmedStart + 1;
+      int angleEnd = angleStart;
+      while (angleEnd < trimmedEnd && isDigit(text.charAt(angleEnd))) {
+        angleEnd++;
+      }
+      final int fractionStart = Math.min(angleEnd + 1, trimmedEnd);
+      final int angleLength = angleEnd - angleStart;
+      final int degreeLength = angleLength % 2 == 0 ? 2 : 3;
+      if (angleLength <= degreeLength) {
+        exactValue =
+            accumulate(
+                exactValue,
+                text,
+                angleStart,
+                angleEnd,
+                fractionStart,
+                trimmedEnd,
+                UNITS_PER_DEGREE);
+      } else {
+        final int minutesStart = angleStart + degreeLength;
+        exactValue =
+            accumulate(exactValue, text, angleStart, minutesStart, 0, 0, UNITS_PER_DEGREE);
+        if (angleLength <= degreeLength + 2) {
+          exactValue =
+              accumulate(
+                  exactValue,
+                  text,
+                  minutesStart,
+                  angleEnd,
+                  fractionStart,
+                  trimmedEnd,
+                  UNITS_PER_MINUTE);
+        } else {
+          final int secondsStart = minutesStart + 2;
+          exactValue =
+              accumulate(exactValue, text, minutesStart, secondsStart, 0, 0, UNITS_PER_MINUTE);
+          exactValue =
+              accumulate(
+                  exactValue,
+                  text,
+                  secondsStart,
+                  angleEnd,
+                  fractionStart,
+                  trimmedEnd,
+                  UNITS_PER_SECOND);
+        }
+      }
+    } else {
+      int index = trimmedStart;
+      int compassSign = getCompassSign(text.charAt(index));
+      if (compassSign != 0) {
+        index = trimStart(text, index + 1, trimmedEnd);
+      } else if (text.charAt(index) == '+' || text.charAt(index) == '-') {
+        sign = text.charAt(index) == '-' ? -1 : 1;
+        index = trimStart(text, index + 1, trimmedEnd);
+      }
+      while (index < trimmedEnd && isDigit(text.charAt(index))) {
+        final int integerStart = index;
+        int integerEnd = integerStart;
+        while (integerEnd < trimmedEnd && isDigit(text.charAt(integerEnd))) {
+          integerEnd++;
+        }
+        int fractionStart = integerEnd;
+        int fractionEnd = integerEnd;
+        if (integerEnd < trimmedEnd && text.charAt(integerEnd) == '.') {
+          fractionStart = integerEnd + 1;
+          fractionEnd = fractionStart;
+          while (fractionEnd < trimmedEnd && isDigit(text.charAt(fractionEnd))) {
+            fractionEnd++;
+          }
+        }
+        final long unitsPerField;
+        switch (getAngleField(text.charAt(fractionEnd))) {
+          case 0:
+            unitsPerField = UNITS_PER_DEGREE;
+            break;
+          case 1:
+            unitsPerField = UNITS_PER_MINUTE;
+            break;
+          default:
+            unitsPerField = UNITS_PER_SECOND;
+            break;
+        }
+        exactValue =
+            accumulate(
+                exactValue,
+                text,
+                integerStart,
+                integerEnd,
+                fractionStart,
+                fractionEnd,
+                unitsPerField);
+        index = trimStart(text, fractionEnd + 1, trimmedEnd);
+      }
+      if (index < trimmedEnd) {
+        compassSign = getCompassSign(text.charAt(index));
+      }
+      if (compassSign != 0) {
+        sign = compassSign;
+      }
+    }
+    return sign * exactValue;
+  }
+
+  private PointLocationTranscoder() {
+    // Prevent instantiation
+  }
+}
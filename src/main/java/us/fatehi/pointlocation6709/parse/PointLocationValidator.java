@@ -0,0 +1,338 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.parse;
+
+import static us.fatehi.pointlocation6709.parse.CoordinateParser.parseDigits;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Checks whether ASCII encoded records are valid ISO 6709 compact point locations, without creating
+ * any objects for them. A record is valid exactly when {@link PointLocationParser} can parse it, so
+ * large batches of candidate records can be filtered cheaply before they are fully parsed.
+ *
+ * <p>Fields are checked with whole number arithmetic on their digits. Floating point arithmetic is
+ * only used for angles within a degree of their limit, or with a fraction of a 59 minute or second
+ * field, where the parser's round-off decides whether the angle is valid. Line terminators are
+ * found eight bytes at a time, by reading the bytes as a long and testing all of them at once.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationValidator {
+
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+
+  /**
+   * Checks whether a range of ASCII encoded bytes is a valid point location.
+   *
+   * @param bytes Bytes containing the representation of the point location
+   * @param offset Index of the first byte of the point location
+   * @param length Number of bytes in the point location, including the terminating /
+   * @return True if the point location can be parsed
+   * @throws IndexOutOfBoundsException If the range is not within the array
+   */
+  public static boolean isValid(final byte[] bytes, final int offset, final int length) {
+    if (bytes == null) {
+      return false;
+    }
+    return isValid(ByteBuffer.wrap(bytes), offset, length);
+  }
+
+  /**
+   * Checks whether a range of ASCII encoded bytes in a buffer is a valid point location. The index
+   * is absolute, and the position of the buffer is not changed.
+   *
+   * @param buffer Buffer containing the representation of the point location
+   * @param index Absolute index of the first byte of the point location
+   * @param length Number of bytes in the point location, including the terminating /
+   * @return True if the point location can be parsed
+   * @throws IndexOutOfBoundsException If the range is not within the buffer limit
+   */
+  public static boolean isValid(final ByteBuffer buffer, final int index, final int length) {
+    if (buffer == null) {
+      return false;
+    }
+    Objects.checkFromIndexSize(index, length, buffer.limit());
+    final AsciiCharSequence text = new AsciiCharSequence(buffer, 0, buffer.limit());
+    return isValid(buffer, text, index, index + length);
+  }
+
+  /**
+   * Checks every line in a range of ASCII encoded bytes, with one point location per line. Lines
+   * are terminated by LF or CRLF, and a final line without a line terminator is also checked.
+   *
+   * @param bytes Bytes containing the lines
+   * @param offset Index of the first byte of the first line
+   * @param length Number of bytes in all the lines
+   * @param valid Bit set, which is updated with a set bit for every valid line, and a clear bit for
+   *     every invalid line, indexed by line number starting at zero
+   * @return Number of lines checked
+   * @throws IndexOutOfBoundsException If the range is not within the array
+   */
+  public static int validateLines(
+      final byte[] bytes, final int offset, final int length, final BitSet valid) {
+    Objects.requireNonNull(bytes, "No bytes provided");
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return validateLines(ByteBuffer.wrap(bytes, offset, length), valid);
+  }
+
+  /**
+   * Checks every line in the remaining ASCII encoded bytes in a buffer, from the position to the
+   * limit, with one point location per line. Lines are terminated by LF or CRLF, and a final line
+   * without a line terminator is also checked. The position of the buffer is not changed.
+   *
+   * @param buffer Buffer containing the lines
+   * @param valid Bit set, which is updated with a set bit for every valid line, and a clear bit for
+   *     every invalid line, indexed by line number starting at zero
+   * @return Number of lines checked
+   */
+  public static int validateLines(final ByteBuffer buffer, final BitSet valid) {
+    Objects.requireNonNull(buffer, "No buffer provided");
+    Objects.requireNonNull(valid, "No bit set provided");
+
+    final AsciiCharSequence text = new AsciiCharSequence(buffer, 0, buffer.limit());
+    final int limit = buffer.limit();
+    int lineCount = 0;
+    int lineStart = buffer.position();
+    while (lineStart < limit) {
+      int lineEnd = findNewline(buffer, lineStart, limit);
+      final int nextLineStart = lineEnd + 1;
+      if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+        lineEnd--;
+      }
+      valid.set(lineCount, isValid(buffer, text, lineStart, lineEnd));
+      lineCount++;
+      lineStart = nextLineStart;
+    }
+    return lineCount;
+  }
+
+  /**
+   * Checks a coordinate, which must be laid out exactly as {@link CoordinateParser} expects the ISO
+   * 6709 compact format, and must be within range.
+   *
+   * @return Index after the coordinate, or -1 if it is not valid
+   */
+  private static int checkCoordinate(
+      final ByteBuffer buffer,
+      final CharSequence text,
+      final int start,
+      final int end,
+      final boolean isLatitude) {
+    if (start >= end) {
+      return -1;
+    }
+    final int sign;
+    switch (buffer.get(start)) {
+      case '+':
+      case 'N':
+      case 'E':
+        sign = 1;
+        break;
+      case '-':
+      case 'S':
+      case 'W':
+        sign = -1;
+        break;
+      default:
+        return -1;
+    }
+
+    final int angleStart = start + 1;
+    final int angleEnd = findDigitsEnd(buffer, angleStart, end);
+    final int angleLength = angleEnd - angleStart;
+    if (angleLength == 0) {
+      return -1;
+    }
+    int fractionStart = angleEnd;
+    int fractionEnd = angleEnd;
+    if (angleEnd < end && buffer.get(angleEnd) == '.') {
+      fractionStart = angleEnd + 1;
+      fractionEnd = findDigitsEnd(buffer, fractionStart, end);
+    }
+
+    // Check the fields with whole numbers, from the digits of each field
+    final int degreeLength = angleLength % 2 == 0 ? 2 : 3;
+    final int limit = isLatitude ? 90 : 180;
+    final boolean hasFraction = fractionEnd > fractionStart;
+    final int degrees =
+        wholeNumber(buffer, angleStart, Math.min(angleStart + degreeLength, angleEnd));
+    int lastField = degrees;
+    if (angleLength > degreeLength) {
+      final int minutesStart = angleStart + degreeLength;
+      lastField = wholeNumber(buffer, minutesStart, minutesStart + 2);
+      if (lastField >= 60) {
+        return -1;
+      }
+      if (angleLength > degreeLength + 2) {
+        lastField = wholeNumber(buffer, minutesStart + 2, angleEnd);
+        if (lastField >= 60) {
+          return -1;
+        }
+      }
+      if (hasFraction && lastField == 59) {
+        // The fraction could round the field up to 60
+        return checkAngle(text, angleStart, angleEnd, fractionStart, fractionEnd, sign, isLatitude);
+      }
+    }
+    if (degrees > limit) {
+      return -1;
+    }
+    if (degrees >= limit - 1) {
+      // Close to the limit, where the parser's floating point arithmetic decides
+      return checkAngle(text, angleStart, angleEnd, fractionStart, fractionEnd, sign, isLatitude);
+    }
+    return fractionEnd;
+  }
+
+  /**
+   * Checks the fields and range of an angle in the same way as the parser, with floating point
+   * arithmetic. Only used for angles close to a limit, where round-off decides.
+   *
+   * @return Index after the angle, or -1 if it is not valid
+   */
+  private static int checkAngle(
+      final CharSequence text,
+      final int angleStart,
+      final int angleEnd,
+      final int fractionStart,
+      final int fractionEnd,
+      final int sign,
+      final boolean isLatitude) {
+    // Split the fields, and compute the angle, in the same way as the parser
+    final int angleLength = angleEnd - angleStart;
+    final int degreeLength = angleLength % 2 == 0 ? 2 : 3;
+    final double degrees;
+    double minutes = 0;
+    double seconds = 0;
+    if (angleLength <= degreeLength) {
+      degrees = parseDigits(text, angleStart, angleEnd, fractionStart, fractionEnd);
+    } else {
+      final int minutesStart = angleStart + degreeLength;
+      degrees = parseDigits(text, angleStart, minutesStart, angleEnd, angleEnd);
+      if (angleLength <= degreeLength + 2) {
+        minutes = parseDigits(text, minutesStart, angleEnd, fractionStart, fractionEnd);
+      } else {
+        final int secondsStart = minutesStart + 2;
+        minutes = parseDigits(text, minutesStart, secondsStart, angleEnd, angleEnd);
+        seconds = parseDigits(text, secondsStart, angleEnd, fractionStart, fractionEnd);
+      }
+    }
+    if (minutes >= 60D || seconds >= 60D) {
+      return -1;
+    }
+
+    final double radians = sign * (degrees + minutes / 60D + seconds / 3600D) * Math.PI / 180D;
+    final double angle = radians * 180D / Math.PI;
+    if (isLatitude) {
+      return Math.abs(angle) > 90 ? -1 : fractionEnd;
+    } else {
+      return Math.abs(angle) > 180 || angle == 180 ? -1 : fractionEnd;
+    }
+  }
+
+  private static int findDigitsEnd(final ByteBuffer buffer, final int start, final int end) {
+    int index = start;
+    while (index < end && isDigit(buffer.get(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  /** Finds the index of the first LF, eight bytes at a time, or the end if there is none. */
+  private static int findNewline(final ByteBuffer buffer, final int start, final int end) {
+    int index = start;
+    while (end - index >= Long.BYTES) {
+      final long word = (long) LONG_VIEW.get(buffer, index) ^ NEWLINES;
+      // The lowest flagged byte is always exact, since borrows only propagate upwards
+      final long zeroBytes = (word - ONES) & ~word & HIGH_BITS;
+      if (zeroBytes != 0) {
+        return index + (Long.numberOfTrailingZeros(zeroBytes) >>> 3);
+      }
+      index = index + Long.BYTES;
+    }
+    while (index < end && buffer.get(index) != '\n') {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isDigit(final byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private static boolean isValid(
+      final ByteBuffer buffer, final CharSequence text, final int start, final int end) {
+    final int trimmedStart = skipWhitespace(buffer, start, end);
+    if (trimmedStart == end || buffer.get(end - 1) != '/') {
+      return false;
+    }
+    final int terminator = end - 1;
+
+    // Latitude and longitude
+    final int latitudeEnd = checkCoordinate(buffer, text, trimmedStart, terminator, true);
+    if (latitudeEnd < 0) {
+      return false;
+    }
+    final int longitudeStart = skipWhitespace(buffer, latitudeEnd, terminator);
+    final int longitudeEnd = checkCoordinate(buffer, text, longitudeStart, terminator, false);
+    if (longitudeEnd < 0) {
+      return false;
+    }
+
+    // Optional altitude
+    int index = skipWhitespace(buffer, longitudeEnd, terminator);
+    if (index < terminator && (buffer.get(index) == '+' || buffer.get(index) == '-')) {
+      final int integerEnd = findDigitsEnd(buffer, index + 1, terminator);
+      if (integerEnd == index + 1) {
+        return false;
+      }
+      index = integerEnd;
+      if (index < terminator && buffer.get(index) == '.') {
+        index = findDigitsEnd(buffer, index + 1, terminator);
+      }
+      index = skipWhitespace(buffer, index, terminator);
+    }
+
+    // Optional coordinate reference system identifier, which may contain any characters
+    return index == terminator
+        || terminator - index >= 3
+            && buffer.get(index) == 'C'
+            && buffer.get(index + 1) == 'R'
+            && buffer.get(index + 2) == 'S';
+  }
+
+  private static int skipWhitespace(final ByteBuffer buffer, final int start, final int end) {
+    int index = start;
+    while (index < end && (buffer.get(index) & 0xFF) <= ' ') {
+      index++;
+    }
+    return index;
+  }
+
+  /** Reads a run of digits as a whole number, which is capped, since only small values matter. */
+  private static int wholeNumber(final ByteBuffer buffer, final int start, final int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      value = Math.min(value * 10 + buffer.get(i) - '0', 1000);
+    }
+    return value;
+  }
+
+  private PointLocationValidator() {
+    // Prevent instantiation
+  }
+}
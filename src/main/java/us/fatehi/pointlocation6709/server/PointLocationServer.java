@@ -0,0 +1,481 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+/**
+ * An embedded HTTP server, which parses and formats ISO 6709 point locations for clients that are
+ * not written in Java. It is built on the HTTP server in the JDK, and has no other dependencies.
+ *
+ * <p>Endpoints are:
+ *
+ * <ul>
+ *   <li><code>GET /parse?location=...</code> parses one point location, and responds with a human
+ *       readable description of it, in the same form as {@link PointLocation#toString()}
+ *   <li><code>POST /parse</code> parses one point location per line of the request body, and
+ *       responds with one such description for each
+ *   <li><code>GET /format?location=...&amp;type=...</code> parses one point location, and responds
+ *       with it formatted with one of the {@link PointLocationFormatType} names, LONG by default
+ *   <li><code>POST /format?type=...</code> formats one point location per line of the request body,
+ *       and responds with one line for each
+ *   <li><code>GET /stats</code> responds with request counts and latencies
+ * </ul>
+ *
+ * <p>Query parameter values are percent-decoded as UTF-8, but a <code>+</code> is kept as a plus
+ * sign, since it is the sign of a coordinate, so <code>?location=+40-075/</code> works without
+ * encoding. A space has to be sent as <code>%20</code>.
+ *
+ * <p>Batch responses are streamed back as they are produced, one line for each line of the
+ * request, in the same order. A line that cannot be converted is answered with a line that starts
+ * with <code>ERROR</code>, and does not stop the rest of the batch. Request bodies larger than the
+ * limit are rejected with status 413.
+ *
+ * <p>Requests are handled on a bounded pool of worker threads. On Java 21 or later, each request
+ * is handled on a virtual thread instead, and the number of requests handled at the same time is
+ * limited to the same bound.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class PointLocationServer implements AutoCloseable {
+
+  /** Default largest request body, in bytes. */
+  public static final int DEFAULT_MAXIMUM_REQUEST_SIZE = 16 * 1024 * 1024;
+
+  private static final String ERROR_PREFIX = "ERROR ";
+  private static final int BUFFER_SIZE = 16 * 1024;
+
+  /**
+   * Decodes percent escapes as UTF-8. Unlike an HTML form decoder, a plus sign is not turned into
+   * a space. A percent sign that does not start an escape is kept as it is.
+   */
+  private static String decodePercentEscapes(final String text) {
+    if (text.indexOf('%') < 0) {
+      return text;
+    }
+    final StringBuilder decoded = new StringBuilder(text.length());
+    final byte[] bytes = new byte[text.length() / 3];
+    int index = 0;
+    while (index < text.length()) {
+      // Runs of escapes are decoded together, since a character can take several bytes
+      int count = 0;
+      while (index + 2 < text.length() && text.charAt(index) == '%') {
+        final int high = Character.digit(text.charAt(index + 1), 16);
+        final int low = Character.digit(text.charAt(index + 2), 16);
+        if (high < 0 || low < 0) {
+          break;
+        }
+        bytes[count++] = (byte) (high << 4 | low);
+        index = index + 3;
+      }
+      if (count > 0) {
+        decoded.append(new String(bytes, 0, count, UTF_8));
+      } else {
+        decoded.append(text.charAt(index));
+        index++;
+      }
+    }
+    return decoded.toString();
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      // Virtual threads are not available before Java 21
+      return null;
+    }
+  }
+
+  private static String queryParameter(final URI uri, final String name) {
+    final String query = uri.getRawQuery();
+    if (query == null) {
+      return null;
+    }
+    for (final String parameter : query.split("&")) {
+      final int equals = parameter.indexOf('=');
+      if (equals > 0 && parameter.substring(0, equals).equals(name)) {
+        return decodePercentEscapes(parameter.substring(equals + 1));
+      }
+    }
+    return null;
+  }
+
+  private static void sendText(final HttpExchange exchange, final int status, final String text)
+      throws IOException {
+    final byte[] bytes = text.getBytes(UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final int maximumRequestSize;
+
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder rejectedRequestCount = new LongAdder();
+  private final LongAdder itemCount = new LongAdder();
+  private final LongAdder failedItemCount = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maximumLatencyNanos = new AtomicLong();
+
+  /**
+   * Constructor, with as many workers as there are processors, and the default request size
+   * limit.
+   *
+   * @param address Address to listen on, with port 0 to use any free port
+   * @throws IOException If the server cannot be bound to the address
+   */
+  public PointLocationServer(final InetSocketAddress address) throws IOException {
+    this(address, Runtime.getRuntime().availableProcessors(), DEFAULT_MAXIMUM_REQUEST_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param address Address to listen on, with port 0 to use any free port
+   * @param maximumConcurrency Largest number of requests that are handled at the same time
+   * @param maximumRequestSize Largest request body, in bytes
+   * @throws IOException If the server cannot be bound to the address
+   */
+  public PointLocationServer(
+      final InetSocketAddress address, final int maximumConcurrency, final int maximumRequestSize)
+      throws IOException {
+    if (maximumConcurrency <= 0) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+    if (maximumRequestSize <= 0) {
+      throw new IllegalArgumentException("Request size must be positive");
+    }
+    this.maximumRequestSize = maximumRequestSize;
+
+    final ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+    if (virtualThreadExecutor != null) {
+      executor = virtualThreadExecutor;
+      permits = new Semaphore(maximumConcurrency);
+    } else {
+      // When all workers are busy and the queue is full, the dispatcher thread handles the
+      // request itself, and stops accepting new ones until it is done
+      final ThreadPoolExecutor threadPool =
+          new ThreadPoolExecutor(
+              maximumConcurrency,
+              maximumConcurrency,
+              60,
+              TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(maximumConcurrency * 16),
+              new ThreadPoolExecutor.CallerRunsPolicy());
+      threadPool.allowCoreThreadTimeOut(true);
+      executor = threadPool;
+      permits = null;
+    }
+
+    server = HttpServer.create(address, 0);
+    server.setExecutor(executor);
+    server.createContext("/parse", exchange -> handle(exchange, false));
+    server.createContext("/format", exchange -> handle(exchange, true));
+    server.createContext("/stats", this::handleStatistics);
+  }
+
+  /** Stops the server, waiting at most a second for requests that are being handled. */
+  @Override
+  public void close() {
+    server.stop(1);
+    executor.shutdown();
+  }
+
+  /**
+   * Address the server is listening on, including the actual port.
+   *
+   * @return Address
+   */
+  public InetSocketAddress getAddress() {
+    return server.getAddress();
+  }
+
+  /**
+   * Number of lines that could not be parsed or formatted, over all requests.
+   *
+   * @return Number of failed items
+   */
+  public long getFailedItemCount() {
+    return failedItemCount.sum();
+  }
+
+  /**
+   * Number of lines parsed or formatted, including those that failed, over all requests.
+   *
+   * @return Number of items
+   */
+  public long getItemCount() {
+    return itemCount.sum();
+  }
+
+  /**
+   * Longest time taken to handle a request.
+   *
+   * @return Latency in nanoseconds
+   */
+  public long getMaximumLatencyNanos() {
+    return maximumLatencyNanos.get();
+  }
+
+  /**
+   * Number of requests rejected because they were too large, or not valid.
+   *
+   * @return Number of rejected requests
+   */
+  public long getRejectedRequestCount() {
+    return rejectedRequestCount.sum();
+  }
+
+  /**
+   * Number of parse and format requests handled, including those that were rejected.
+   *
+   * @return Number of requests
+   */
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  /**
+   * Total time taken to handle all requests.
+   *
+   * @return Latency in nanoseconds
+   */
+  public long getTotalLatencyNanos() {
+    return totalLatencyNanos.sum();
+  }
+
+  /** Starts handling requests. */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    final long requests = getRequestCount();
+    return "PointLocationServer [address="
+        + getAddress()
+        + ", requests="
+        + requests
+        + ", rejected="
+        + getRejectedRequestCount()
+        + ", items="
+        + getItemCount()
+        + ", failed="
+        + getFailedItemCount()
+        + ", averageLatencyMicros="
+        + (requests == 0 ? 0 : getTotalLatencyNanos() / requests / 1000)
+        + ", maximumLatencyMicros="
+        + getMaximumLatencyNanos() / 1000
+        + "]";
+  }
+
+  /**
+   * Converts one line, and writes the result, or an error line.
+   *
+   * @return True if the line was converted
+   */
+  private boolean convert(
+      final String line, final PointLocationFormatType formatType, final Writer writer)
+      throws IOException {
+    itemCount.increment();
+    final ParseResult result = PointLocationParser.tryParsePointLocation(line);
+    if (!result.isSuccess()) {
+      failedItemCount.increment();
+      writer.write(ERROR_PREFIX);
+      writer.write(result.getMessage());
+      return false;
+    }
+    final PointLocation pointLocation = result.getPointLocation();
+    if (formatType == null) {
+      writer.write(pointLocation.toString());
+      return true;
+    }
+    try {
+      writer.write(PointLocationFormatter.formatPointLocation(pointLocation, formatType));
+      return true;
+    } catch (final FormatterException e) {
+      failedItemCount.increment();
+      writer.write(ERROR_PREFIX);
+      writer.write(String.valueOf(e.getMessage()));
+      return false;
+    }
+  }
+
+  private void handle(final HttpExchange exchange, final boolean isFormat) throws IOException {
+    final long startTime = System.nanoTime();
+    requestCount.increment();
+    try {
+      if (permits != null) {
+        permits.acquireUninterruptibly();
+      }
+      try {
+        handleConversion(exchange, isFormat);
+      } finally {
+        if (permits != null) {
+          permits.release();
+        }
+      }
+    } finally {
+      exchange.close();
+      final long latency = System.nanoTime() - startTime;
+      totalLatencyNanos.add(latency);
+      maximumLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+  }
+
+  private void handleConversion(final HttpExchange exchange, final boolean isFormat)
+      throws IOException {
+    final PointLocationFormatType formatType;
+    if (isFormat) {
+      final String type = queryParameter(exchange.getRequestURI(), "type");
+      try {
+        formatType =
+            type == null
+                ? PointLocationFormatType.LONG
+                : PointLocationFormatType.valueOf(type.toUpperCase(Locale.ROOT));
+      } catch (final IllegalArgumentException e) {
+        rejectedRequestCount.increment();
+        sendText(exchange, 400, "Unknown format type, " + type + "\n");
+        return;
+      }
+    } else {
+      formatType = null;
+    }
+
+    final String method = exchange.getRequestMethod();
+    if ("GET".equals(method)) {
+      final String location = queryParameter(exchange.getRequestURI(), "location");
+      if (location == null) {
+        rejectedRequestCount.increment();
+        sendText(exchange, 400, "No location provided\n");
+        return;
+      }
+      final StringWriter writer = new StringWriter();
+      final boolean converted = convert(location, formatType, writer);
+      writer.write('\n');
+      sendText(exchange, converted ? 200 : 400, writer.toString());
+    } else if ("POST".equals(method)) {
+      final byte[] body = readBody(exchange);
+      if (body == null) {
+        rejectedRequestCount.increment();
+        sendText(exchange, 413, "Request body is larger than " + maximumRequestSize + " bytes\n");
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+      // Length 0 streams the response back in chunks, as it is produced
+      exchange.sendResponseHeaders(200, 0);
+      final Writer writer =
+          new BufferedWriter(
+              new OutputStreamWriter(exchange.getResponseBody(), UTF_8), BUFFER_SIZE);
+      final String text = new String(body, UTF_8);
+      int lineStart = 0;
+      while (lineStart < text.length()) {
+        int lineEnd = text.indexOf('\n', lineStart);
+        final int nextLineStart;
+        if (lineEnd < 0) {
+          lineEnd = text.length();
+          nextLineStart = lineEnd;
+        } else {
+          nextLineStart = lineEnd + 1;
+        }
+        if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+          lineEnd--;
+        }
+        convert(text.substring(lineStart, lineEnd), formatType, writer);
+        writer.write('\n');
+        lineStart = nextLineStart;
+      }
+      writer.flush();
+    } else {
+      rejectedRequestCount.increment();
+      exchange.getResponseHeaders().set("Allow", "GET, POST");
+      sendText(exchange, 405, "Method not allowed\n");
+    }
+  }
+
+  private void handleStatistics(final HttpExchange exchange) throws IOException {
+    try {
+      final long requests = getRequestCount();
+      final String statistics =
+          "requests: "
+              + requests
+              + "\nrejected: "
+              + getRejectedRequestCount()
+              + "\nitems: "
+              + getItemCount()
+              + "\nfailed: "
+              + getFailedItemCount()
+              + "\naverageLatencyMicros: "
+              + (requests == 0 ? 0 : getTotalLatencyNanos() / requests / 1000)
+              + "\nmaximumLatencyMicros: "
+              + getMaximumLatencyNanos() / 1000
+              + "\n";
+      sendText(exchange, 200, statistics);
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Reads the request body, unless it is larger than the limit.
+   *
+   * @return Request body, or null if it is too large
+   */
+  private byte[] readBody(final HttpExchange exchange) throws IOException {
+    final String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+    if (contentLength != null) {
+      try {
+        if (Long.parseLong(contentLength.trim()) > maximumRequestSize) {
+          return null;
+        }
+      } catch (final NumberFormatException e) {
+        return null;
+      }
+    }
+    try (final InputStream in = exchange.getRequestBody()) {
+      final byte[] body = in.readNBytes(maximumRequestSize);
+      return in.read() < 0 ? body : null;
+    }
+  }
+}
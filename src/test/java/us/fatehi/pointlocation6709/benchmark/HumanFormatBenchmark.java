@@ -0,0 +1,109 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParserException;
+
+/**
+ * Parses human readable angles, both well-formed and hostile, of increasing length. The time per
+ * character should stay flat as the length grows. Run the main method with the test classpath.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HumanFormatBenchmark {
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder().include(HumanFormatBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  /** Builds an input of about the given length, of the given shape. */
+  static String adversarialInput(final String shape, final int length) {
+    final StringBuilder buffer = new StringBuilder(length + 2);
+    switch (shape) {
+      case "noCompass":
+        // Defeats a leading .* search for a compass direction
+        while (buffer.length() < length) {
+          buffer.append('x');
+        }
+        buffer.append('°');
+        break;
+      case "whitespace":
+        buffer.append("48°");
+        while (buffer.length() < length) {
+          buffer.append(' ');
+        }
+        buffer.append("1x");
+        break;
+      case "repeatedFields":
+        while (buffer.length() < length) {
+          buffer.append("1'");
+        }
+        break;
+      case "longNumber":
+        while (buffer.length() < length) {
+          buffer.append('9');
+        }
+        buffer.append("°N");
+        break;
+      case "wellFormed":
+      default:
+        buffer.append("48° 36' 12.20\" N");
+        break;
+    }
+    return buffer.toString();
+  }
+
+  @Param({"wellFormed", "noCompass", "whitespace", "repeatedFields", "longNumber"})
+  public String shape;
+
+  @Param({"100", "10000", "1000000"})
+  public int length;
+
+  private String input;
+  private CoordinateParser parser;
+
+  @Benchmark
+  public Object parseLatitude() {
+    try {
+      return parser.parseLatitude(input);
+    } catch (final ParserException e) {
+      return e;
+    }
+  }
+
+  @Setup
+  public void setup() {
+    input = adversarialInput(shape, length);
+    parser = new CoordinateParser();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Angle.AngleFormat;
+import us.fatehi.pointlocation6709.Angle.Field;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+
+/**
+ * Formats point locations in the human readable formats, as for logging. The string format
+ * benchmarks do the same work in the way that it used to be done, with string formats, for
+ * comparison. Run the main method with the test classpath.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HumanFormattingBenchmark {
+
+  private static final int COUNT = 1024;
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder().include(HumanFormattingBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  /** Formats an angle with string formats, as it used to be formatted. */
+  private static String formatWithStringFormat(final Angle angle, final String direction) {
+    final StringBuilder representation = new StringBuilder();
+    representation.append("%02d".formatted(Math.abs(angle.getField(Field.DEGREES))));
+    representation.append(Field.DEGREES);
+    representation.append("%02d".formatted(Math.abs(angle.getField(Field.MINUTES))));
+    representation.append(Field.MINUTES);
+    representation.append("%02d".formatted(Math.abs(angle.getField(Field.SECONDS))));
+    representation.append(Field.SECONDS);
+    representation.append(direction);
+    return representation.toString();
+  }
+
+  private PointLocation[] pointLocations;
+
+  @Benchmark
+  public void formatAngle(final Blackhole blackhole) {
+    for (final PointLocation pointLocation : pointLocations) {
+      blackhole.consume(pointLocation.getLatitude().format(AngleFormat.LONG));
+    }
+  }
+
+  @Benchmark
+  public void formatAngleWithStringFormat(final Blackhole blackhole) {
+    for (final PointLocation pointLocation : pointLocations) {
+      final Latitude latitude = pointLocation.getLatitude();
+      blackhole.consume(formatWithStringFormat(latitude, latitude.getRadians() < 0 ? "S" : "N"));
+    }
+  }
+
+  @Benchmark
+  public void pointLocationToString(final Blackhole blackhole) {
+    for (final PointLocation pointLocation : pointLocations) {
+      blackhole.consume(pointLocation.toString());
+    }
+  }
+
+  @Benchmark
+  public void pointLocationToStringWithStringFormat(final Blackhole blackhole) {
+    for (final PointLocation pointLocation : pointLocations) {
+      final Latitude latitude = pointLocation.getLatitude();
+      final Longitude longitude = pointLocation.getLongitude();
+      String string =
+          formatWithStringFormat(latitude, latitude.getRadians() < 0 ? "S" : "N")
+              + " "
+              + formatWithStringFormat(longitude, longitude.getRadians() < 0 ? "W" : "E");
+      if (pointLocation.getAltitude() != 0) {
+        string = string + " " + "%1$.3f".formatted(pointLocation.getAltitude());
+      }
+      blackhole.consume(string);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(6709);
+    pointLocations = new PointLocation[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      pointLocations[i] =
+          new PointLocation(
+              new Latitude(Angle.fromDegrees(random.nextDouble() * 180 - 90)),
+              new Longitude(Angle.fromDegrees(random.nextDouble() * 360 - 180)),
+              random.nextInt(4) == 0 ? 0 : random.nextGaussian() * 1000,
+              "");
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.benchmark;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.parse.PointLocationValidator;
+
+/**
+ * Checks a batch of point location records, one per line, with the validator, and parses the same
+ * records with the parser, for comparison. The parser is given the records already split into
+ * strings, so it does less work than it would on the raw bytes. Run the main method with the test
+ * classpath.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  private static final int COUNT = 10_000;
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder().include(ValidationBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  /** Builds a record in one of the compact formats, with one record in ten not valid. */
+  private static String record(final Random random, final int i) {
+    final double latitude = random.nextDouble() * 180 - 90;
+    final double longitude = random.nextDouble() * 360 - 180;
+    switch (i % 10) {
+      case 0:
+        // Minutes out of range
+        return "+4075-07400/";
+      case 1:
+      case 2:
+      case 3:
+        return String.format(Locale.ROOT, "%+09.5f%+010.5f/", latitude, longitude);
+      case 4:
+      case 5:
+        return String.format(
+            Locale.ROOT,
+            "%s%s%+.1fCRSWGS_84/",
+            sexagesimal(latitude, 2),
+            sexagesimal(longitude, 3),
+            random.nextGaussian() * 1000);
+      default:
+        return sexagesimal(latitude, 2) + sexagesimal(longitude, 3) + "/";
+    }
+  }
+
+  private static String sexagesimal(final double value, final int degreeDigits) {
+    final long seconds = Math.round(Math.abs(value) * 3600);
+    return String.format(
+        Locale.ROOT,
+        "%s%0" + degreeDigits + "d%02d%02d",
+        value < 0 ? "-" : "+",
+        seconds / 3600,
+        seconds / 60 % 60,
+        seconds % 60);
+  }
+
+  private byte[] bytes;
+  private String[] lines;
+  private BitSet valid;
+
+  @Benchmark
+  public int parseLines() {
+    int validCount = 0;
+    for (final String line : lines) {
+      if (PointLocationParser.tryParsePointLocation(line).isSuccess()) {
+        validCount++;
+      }
+    }
+    return validCount;
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(6709);
+    lines = new String[COUNT];
+    final StringBuilder buffer = new StringBuilder(COUNT * 32);
+    for (int i = 0; i < COUNT; i++) {
+      lines[i] = record(random, i);
+      buffer.append(lines[i]).append('\n');
+    }
+    bytes = buffer.toString().getBytes(US_ASCII);
+    valid = new BitSet(COUNT);
+  }
+
+  @Benchmark
+  public int validateLines() {
+    PointLocationValidator.validateLines(bytes, 0, bytes.length, valid);
+    return valid.cardinality();
+  }
+}
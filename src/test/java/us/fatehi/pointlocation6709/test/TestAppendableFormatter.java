@@ -0,0 +1,201 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.fatehi.pointlocation6709.format.PointLocationFormatter.formatLatitude;
+import static us.fatehi.pointlocation6709.format.PointLocationFormatter.formatLongitude;
+import static us.fatehi.pointlocation6709.format.PointLocationFormatter.formatPointLocation;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.parse.PointLocationTranscoder;
+
+public class TestAppendableFormatter {
+
+  private static final String[] POINT_LOCATIONS = {
+    "+401213.123-0750015.123/",
+    "+401213.123-075+23.23/",
+    "+401213.123-075-13.13CRScustom/",
+    "-895959.9+1795959.9+0.015625/",
+    "+00-180/",
+  };
+
+  @Test
+  public void appendsAfterExistingText() throws Exception {
+    final PointLocation pointLocation = PointLocationParser.parsePointLocation("+40-075+23.23/");
+    final StringBuilder buffer = new StringBuilder("Location: ");
+    formatPointLocation(pointLocation, PointLocationFormatType.MEDIUM, buffer);
+    buffer.append("; ");
+    formatLatitude(pointLocation.getLatitude(), PointLocationFormatType.SHORT, buffer);
+    buffer.append(' ');
+    formatLongitude(pointLocation.getLongitude(), PointLocationFormatType.SHORT, buffer);
+    assertThat(buffer.toString(), is("Location: +4000-07500+23.23000/; +40 -075"));
+  }
+
+  @Test
+  public void appendableMatchesString() throws Exception {
+    for (final String text : POINT_LOCATIONS) {
+      final PointLocation pointLocation = PointLocationParser.parsePointLocation(text);
+      for (final PointLocationFormatType formatType : PointLocationFormatType.values()) {
+        final String expected = formatPointLocation(pointLocation, formatType);
+
+        final StringWriter writer = new StringWriter();
+        formatPointLocation(pointLocation, formatType, writer);
+        assertThat(writer.toString(), is(expected));
+
+        final StringBuilder buffer = new StringBuilder();
+        formatPointLocation(pointLocation, formatType, buffer);
+        assertThat(buffer.toString(), is(expected));
+      }
+    }
+  }
+
+  @Test
+  public void decimalCarry() throws Exception {
+    final String[][] cases = {
+      {"+10.99999-075.99999/", "+10.99999-075.99999/"},
+      {"+10.999999-075.999999/", "+11.00000-076.00000/"},
+      {"+89.999996+179.999996/", "+90.00000-180.00000/"},
+      {"-00.000001+000.000004/", "-00.00000+000.00000/"},
+    };
+    for (final String[] testCase : cases) {
+      final String representation = testCase[0];
+      final PointLocation pointLocation = PointLocationParser.parsePointLocation(representation);
+      assertThat(
+          representation,
+          formatPointLocation(pointLocation, PointLocationFormatType.DECIMAL),
+          is(testCase[1]));
+      // Formatting and transcoding round in the same way
+      assertThat(
+          representation,
+          PointLocationTranscoder.transcodePointLocation(
+              representation, PointLocationFormatType.DECIMAL),
+          is(testCase[1]));
+    }
+    assertThat(
+        formatLatitude(
+            new Latitude(Angle.fromDegrees(10.999999)), PointLocationFormatType.DECIMAL),
+        is("+11.00000"));
+  }
+
+  @Test
+  public void failingAppendable() throws ParserException {
+    final PointLocation pointLocation = PointLocationParser.parsePointLocation("+40-075/");
+    final Appendable failing =
+        new Appendable() {
+          @Override
+          public Appendable append(final char c) throws IOException {
+            throw new IOException("Disk full");
+          }
+
+          @Override
+          public Appendable append(final CharSequence csq) throws IOException {
+            throw new IOException("Disk full");
+          }
+
+          @Override
+          public Appendable append(final CharSequence csq, final int start, final int end)
+              throws IOException {
+            throw new IOException("Disk full");
+          }
+        };
+    final IOException exception =
+        assertThrows(
+            IOException.class,
+            () -> formatPointLocation(pointLocation, PointLocationFormatType.LONG, failing));
+    assertThat(exception.getMessage(), is("Disk full"));
+  }
+
+  @Test
+  public void ignoresDefaultLocale() throws Exception {
+    final PointLocation pointLocation =
+        PointLocationParser.parsePointLocation("+40.20365-075.00420-13.13/");
+    final Locale defaultLocale = Locale.getDefault();
+    try {
+      Locale.setDefault(new Locale("ar", "EG"));
+      assertThat(
+          formatPointLocation(pointLocation, PointLocationFormatType.DECIMAL),
+          is("+40.20365-075.00420-13.13000/"));
+      Locale.setDefault(Locale.GERMANY);
+      assertThat(
+          formatPointLocation(pointLocation, PointLocationFormatType.DECIMAL),
+          is("+40.20365-075.00420-13.13000/"));
+      assertThat(
+          formatPointLocation(pointLocation, PointLocationFormatType.HUMAN_LONG),
+          is("40°12'13\"N 75°00'15\"W -13.130"));
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
+  @Test
+  public void nullArguments() throws ParserException {
+    final PointLocation pointLocation = PointLocationParser.parsePointLocation("+40-075/");
+    final StringBuilder buffer = new StringBuilder();
+    assertThrows(
+        FormatterException.class,
+        () -> formatPointLocation(pointLocation, PointLocationFormatType.LONG, (Appendable) null));
+    assertThrows(
+        FormatterException.class,
+        () -> formatPointLocation(pointLocation, null, buffer));
+    assertThrows(
+        FormatterException.class,
+        () -> formatPointLocation(null, PointLocationFormatType.LONG, buffer));
+    assertThrows(
+        FormatterException.class,
+        () ->
+            formatLatitude(
+                pointLocation.getLatitude(), PointLocationFormatType.HUMAN_SHORT, buffer));
+    assertThat(buffer.length(), is(0));
+  }
+
+  @Test
+  public void roundingTies() throws FormatterException {
+    final Latitude latitude = new Latitude(Angle.fromDegrees(0));
+    final Longitude longitude = new Longitude(Angle.fromDegrees(0));
+
+    // Exact binary ties are rounded half even in ISO 6709 formats
+    assertThat(
+        formatPointLocation(
+            new PointLocation(latitude, longitude, 0.000005, ""), PointLocationFormatType.SHORT),
+        is("+00+000+0.00001/"));
+    assertThat(
+        formatPointLocation(
+            new PointLocation(latitude, longitude, 1.0000025, ""), PointLocationFormatType.SHORT),
+        is("+00+000+1.00000/"));
+    assertThat(
+        formatPointLocation(
+            new PointLocation(latitude, longitude, 0.015625, ""), PointLocationFormatType.SHORT),
+        is("+00+000+0.01562/"));
+
+    // And half up in the human readable long format
+    assertThat(
+        formatPointLocation(
+            new PointLocation(latitude, longitude, 0.0625, ""), PointLocationFormatType.HUMAN_LONG),
+        is("00°00'00\"N 00°00'00\"E 0.063"));
+    assertThat(
+        formatPointLocation(
+            new PointLocation(latitude, longitude, -2.0625, ""),
+            PointLocationFormatType.HUMAN_LONG),
+        is(new PointLocation(latitude, longitude, -2.0625, "").toString()));
+  }
+}
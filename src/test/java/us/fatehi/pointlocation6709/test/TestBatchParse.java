@@ -0,0 +1,103 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.parse.BatchParseResult;
+import us.fatehi.pointlocation6709.parse.ParseError;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParseStatus;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestBatchParse {
+
+  private static final String[] RECORDS = {
+    "+40-075/",
+    "+40.20361-075.00417/",
+    "+4012.22-07500.25-169.2/",
+    "+401213-0750015+2.79CRSxxxx/",
+    "+4060-07560/",
+    "bad/",
+    "",
+    null,
+    "+40+180/",
+  };
+
+  @Test
+  public void badArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PointLocationParser.parsePointLocations((List<String>) null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PointLocationParser.parsePointLocations(new String[0], null));
+  }
+
+  @Test
+  public void emptyBatch() {
+    final BatchParseResult result = PointLocationParser.parsePointLocations(List.of());
+    assertThat(result.size(), is(0));
+    assertThat(result.getErrorCount(), is(0));
+  }
+
+  @Test
+  public void largeBatch() {
+    final List<String> representations = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      representations.add(RECORDS[i % RECORDS.length]);
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final BatchParseResult result =
+          PointLocationParser.parsePointLocations(representations, pool);
+      assertBatch(representations.toArray(new String[0]), result);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void smallBatch() {
+    final BatchParseResult result = PointLocationParser.parsePointLocations(RECORDS);
+    assertBatch(RECORDS, result);
+    assertThat(result.getErrorCount(), is(5));
+    assertThat(result.getErrors().get(3).getStatus(), is(ParseStatus.NO_VALUE));
+    assertThat(result.getErrors().get(3).getIndex(), is(7));
+    assertThat(result.getPointLocations().size(), is(4));
+  }
+
+  private void assertBatch(final String[] representations, final BatchParseResult result) {
+    assertThat(result.size(), is(representations.length));
+    int errorIndex = 0;
+    for (int i = 0; i < representations.length; i++) {
+      final ParseResult expected = PointLocationParser.tryParsePointLocation(representations[i]);
+      if (expected.isSuccess()) {
+        assertThat(result.isFailed(i), is(false));
+        assertThat(result.get(i), is(expected.getPointLocation()));
+      } else {
+        assertThat(result.isFailed(i), is(true));
+        assertThat(result.get(i), is(nullValue()));
+        final ParseError error = result.getErrors().get(errorIndex);
+        assertThat(error.getIndex(), is(i));
+        assertThat(error.getStatus(), is(expected.getStatus()));
+        assertThat(error.getErrorOffset(), is(expected.getErrorOffset()));
+        errorIndex++;
+      }
+    }
+    assertThat(result.getErrorCount(), is(errorIndex));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.fatehi.pointlocation6709.format.PointLocationFormatter.formatPointLocation;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestByteFormatter {
+
+  private static final String[] POINT_LOCATIONS = {
+    "+401213.123-0750015.123/",
+    "+401213.123-075+23.23/",
+    "+401213.123-075-13.13CRScustom/",
+    "-895959.9+1795959.9+0.015625/",
+  };
+
+  @Test
+  public void byteArray() throws Exception {
+    for (final String text : POINT_LOCATIONS) {
+      final PointLocation pointLocation = PointLocationParser.parsePointLocation(text);
+      for (final PointLocationFormatType formatType : PointLocationFormatType.values()) {
+        final byte[] expected = formatPointLocation(pointLocation, formatType).getBytes(UTF_8);
+        final byte[] bytes = new byte[64];
+        Arrays.fill(bytes, (byte) '#');
+        final int length = formatPointLocation(pointLocation, formatType, bytes, 3);
+        assertThat(length, is(expected.length));
+        assertThat(Arrays.copyOfRange(bytes, 3, 3 + length), is(expected));
+        assertThat(bytes[2], is((byte) '#'));
+        assertThat(bytes[3 + length], is((byte) '#'));
+      }
+    }
+  }
+
+  @Test
+  public void byteBuffers() throws Exception {
+    final ByteBuffer[] buffers = {
+      ByteBuffer.allocate(1024),
+      ByteBuffer.allocateDirect(1024),
+      ByteBuffer.allocate(1100).position(76).slice()
+    };
+    for (final ByteBuffer buffer : buffers) {
+      final StringBuilder expected = new StringBuilder();
+      for (final String text : POINT_LOCATIONS) {
+        final PointLocation pointLocation = PointLocationParser.parsePointLocation(text);
+        for (final PointLocationFormatType formatType : PointLocationFormatType.values()) {
+          final int position = buffer.position();
+          final int length = formatPointLocation(pointLocation, formatType, buffer);
+          assertThat(buffer.position(), is(position + length));
+          buffer.put((byte) '\n');
+          expected.append(formatPointLocation(pointLocation, formatType)).append('\n');
+        }
+      }
+      buffer.flip();
+      final byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      assertThat(new String(bytes, UTF_8), is(expected.toString()));
+    }
+  }
+
+  @Test
+  public void nonAsciiCoordinateReferenceSystem() throws FormatterException {
+    final PointLocation pointLocation =
+        new PointLocation(
+            new Latitude(Angle.fromDegrees(40)),
+            new Longitude(Angle.fromDegrees(-75)),
+            0,
+            "Zürich€🌍\ud800");
+    final byte[] bytes = new byte[64];
+    final int length = formatPointLocation(pointLocation, PointLocationFormatType.SHORT, bytes, 0);
+    assertThat(
+        new String(bytes, 0, length, UTF_8),
+        is(new String("+40-075CRSZürich€🌍\ud800/".getBytes(UTF_8), UTF_8)));
+    assertThat(length, is("+40-075CRSZürich€🌍?/".getBytes(UTF_8).length));
+  }
+
+  @Test
+  public void overflow() throws Exception {
+    final PointLocation pointLocation = PointLocationParser.parsePointLocation("+40-075+23.23/");
+    final PointLocationFormatType formatType = PointLocationFormatType.LONG;
+
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+    buffer.position(20);
+    assertThrows(
+        BufferOverflowException.class,
+        () -> formatPointLocation(pointLocation, formatType, buffer));
+    assertThat(buffer.position(), is(20));
+
+    final byte[] bytes = new byte[32];
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> formatPointLocation(pointLocation, formatType, bytes, 20));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> formatPointLocation(pointLocation, formatType, bytes, 33));
+    assertThat(formatPointLocation(pointLocation, formatType, bytes, 7), is(25));
+
+    assertThrows(
+        ReadOnlyBufferException.class,
+        () -> formatPointLocation(pointLocation, formatType, buffer.asReadOnlyBuffer()));
+    assertThrows(
+        FormatterException.class,
+        () -> formatPointLocation(pointLocation, formatType, (ByteBuffer) null));
+    assertThrows(
+        FormatterException.class, () -> formatPointLocation(pointLocation, formatType, null, 0));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.parse.CoordinateFormat;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParserException;
+
+public class TestCoordinateFormat {
+
+  private static final String[] COMPACT = {"+40.20361", "-4012.217", "+401213.1", " +40 "};
+  private static final String[] HUMAN = {
+    "40°12'13\"N", "-40°12.217'", "  40.20361°  ", "40°12'13\"S", "40°N"
+  };
+
+  @Test
+  public void detectFormat() {
+    for (final String value : COMPACT) {
+      assertThat(value, detect(value), is(CoordinateFormat.ISO6709_COMPACT));
+    }
+    for (final String value : HUMAN) {
+      assertThat(value, detect(value), is(CoordinateFormat.HUMAN_READABLE));
+    }
+    assertThat(detect("   "), is(CoordinateFormat.UNKNOWN));
+    assertThat(detect(""), is(CoordinateFormat.UNKNOWN));
+    assertThat(
+        CoordinateParser.detectFormat("x40°12'N,+40.5", 1, 8),
+        is(CoordinateFormat.HUMAN_READABLE));
+    assertThat(
+        CoordinateParser.detectFormat("x40°12'N,+40.5", 9, 14),
+        is(CoordinateFormat.ISO6709_COMPACT));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> CoordinateParser.detectFormat("+40", 0, 4));
+  }
+
+  @Test
+  public void fallBack() throws ParserException {
+    final CoordinateParser parser = new CoordinateParser(CoordinateFormat.ISO6709_COMPACT);
+    assertSameAsDefault(parser, COMPACT);
+    assertThat(parser.getExpectedFormat(), is(CoordinateFormat.ISO6709_COMPACT));
+
+    // A value in the other format is still parsed, and the parser switches formats
+    assertSameAsDefault(parser, HUMAN);
+    assertThat(parser.getExpectedFormat(), is(CoordinateFormat.HUMAN_READABLE));
+    assertSameAsDefault(parser, COMPACT);
+    assertThat(parser.getExpectedFormat(), is(CoordinateFormat.ISO6709_COMPACT));
+  }
+
+  @Test
+  public void learnFormat() throws ParserException {
+    final CoordinateParser parser = new CoordinateParser(CoordinateFormat.UNKNOWN);
+    assertThat(parser.getExpectedFormat(), is(CoordinateFormat.UNKNOWN));
+    assertSameAsDefault(parser, HUMAN);
+    assertThat(parser.getExpectedFormat(), is(CoordinateFormat.HUMAN_READABLE));
+
+    assertThat(new CoordinateParser().getExpectedFormat(), is(CoordinateFormat.UNKNOWN));
+    final CoordinateParser defaultParser = new CoordinateParser();
+    assertSameAsDefault(defaultParser, HUMAN);
+    assertThat(defaultParser.getExpectedFormat(), is(CoordinateFormat.UNKNOWN));
+  }
+
+  @Test
+  public void sameErrors() {
+    final String[] badValues = {"+40.2x", "40°12'13\"X", "+4012.3N", "40°70'N", "abc"};
+    final CoordinateParser defaultParser = new CoordinateParser();
+    for (final CoordinateFormat format : CoordinateFormat.values()) {
+      final CoordinateParser parser = new CoordinateParser(format);
+      for (final String value : badValues) {
+        final ParserException expected =
+            assertThrows(ParserException.class, () -> defaultParser.parseLatitude(value));
+        final ParserException actual =
+            assertThrows(ParserException.class, () -> parser.parseLatitude(value), value);
+        assertThat(value, actual.getMessage(), is(expected.getMessage()));
+      }
+      assertThat(parser.getExpectedFormat(), is(format));
+    }
+  }
+
+  private void assertSameAsDefault(final CoordinateParser parser, final String[] values)
+      throws ParserException {
+    final CoordinateParser defaultParser = new CoordinateParser();
+    for (final String value : values) {
+      assertThat(value, parser.parseLatitude(value), is(defaultParser.parseLatitude(value)));
+      assertThat(value, parser.parseLongitude(value), is(defaultParser.parseLongitude(value)));
+    }
+  }
+
+  private CoordinateFormat detect(final String value) {
+    return CoordinateParser.detectFormat(value, 0, value.length());
+  }
+}
@@ -94,6 +94,42 @@ public class TestCoordinateParser {
         () -> new CoordinateParser().parseLongitude("48.60333333333334\' 36° 12.20\""));
   }
 
+  @Test
+  @DisplayName("Stray characters in compact latitude")
+  public void bad_latitude_6() throws ParserException {
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+4x12"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+40.1.2"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+.5"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("*4012"));
+  }
+
+  @Test
+  @DisplayName("Too many minutes or seconds in compact latitude")
+  public void bad_latitude_7() throws ParserException {
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+4060"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+401260"));
+    assertThrows(ParserException.class, () -> new CoordinateParser().parseLatitude("+40121300"));
+  }
+
+  @Test
+  public void compactLatitudeDegrees() throws ParserException {
+    assertThat(new CoordinateParser().parseLatitude("+40.20361").getDegrees(), is(40.20361));
+    assertThat(new CoordinateParser().parseLatitude("-40.5").getDegrees(), is(-40.5));
+    assertThat(new CoordinateParser().parseLatitude("+4030").getDegrees(), is(40.5));
+    assertThat(new CoordinateParser().parseLatitude("+4030.").getDegrees(), is(40.5));
+    assertThat(new CoordinateParser().parseLatitude(" +4030 ").getDegrees(), is(40.5));
+    assertThat(new CoordinateParser().parseLatitude("+403036").getDegrees(), is(40.51));
+    assertThat(
+        new CoordinateParser().parseLatitude("+40.000000000000000001").getDegrees(), is(40D));
+  }
+
+  @Test
+  public void compactLongitudeCompassSign() throws ParserException {
+    parseAndCheckLongitude("W0483612.20", -48, -36, -12);
+    parseAndCheckLongitude("e0483612.20", 48, 36, 12);
+  }
+
   @Test
   public void latitude_1() throws ParserException {
     parseAndCheckLatitude("+483612.20", 48, 36, 12);
@@ -5,12 +5,10 @@
  */
 package us.fatehi.pointlocation6709.test;
 
-import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.IsCloseTo.closeTo;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -49,14 +47,15 @@ public class TestCoordinateSplitter {
 
   @Test
   public void split() throws Exception {
-    final Method method =
-        CoordinateParser.class.getDeclaredMethod("splitHumanCoordinates", String.class);
-    method.setAccessible(true);
-
     final CoordinateParser parser = new CoordinateParser();
     for (final Entry<String, String> testCase : testCases.entrySet()) {
-      final List<String> split = (List<String>) method.invoke(parser, testCase.getKey());
-      assertThat(StringUtils.join(split, "~"), is(testCase.getValue()));
+      final String[] fields = StringUtils.split(testCase.getValue(), '~');
+      double expected = 0;
+      for (int i = 0; i < fields.length; i++) {
+        expected = expected + Double.parseDouble(fields[i]) / Math.pow(60, i);
+      }
+      final double degrees = parser.parseLatitude(testCase.getKey()).getDegrees();
+      assertThat(testCase.getKey(), Math.abs(degrees), closeTo(expected, 1E-12));
     }
   }
 }
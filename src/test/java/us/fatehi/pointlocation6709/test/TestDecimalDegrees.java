@@ -0,0 +1,131 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestDecimalDegrees {
+
+  @Test
+  public void badValues() {
+    final String[] representations = {
+      null,
+      " ",
+      "40.5",
+      "40.5,",
+      ",-75",
+      "40.5;-75",
+      "40.5,-75,",
+      "40.5,-75,12x",
+      "40.5,-75/",
+      "91,-75",
+      "40.5,-181",
+      ".,-75",
+      "40.5.1,-75",
+    };
+    for (final String representation : representations) {
+      assertThrows(
+          ParserException.class,
+          () -> PointLocationParser.parseDecimalDegrees(representation),
+          representation);
+    }
+  }
+
+  @Test
+  public void format() throws ParserException, FormatterException {
+    assertFormat("+40-075/", "40,-75");
+    assertFormat("+40.5-075.25+12.5/", "40.5,-75.25,12.5");
+    assertFormat("-90+000/", "-90,0");
+    assertFormat("+4012.3-07500.6/", "40.205,-75.01");
+    assertThat(
+        PointLocationFormatter.formatLatitude(
+            new Latitude(Angle.fromDegrees(0.00001)), PointLocationFormatType.DECIMAL_DEGREES),
+        is("0.00001"));
+    assertThat(
+        PointLocationFormatter.formatLongitude(
+            new Longitude(Angle.fromDegrees(-75.00417)), PointLocationFormatType.DECIMAL_DEGREES),
+        is("-75.00417"));
+  }
+
+  @Test
+  public void parse() throws ParserException {
+    assertParse("40.20361,-75.00417", "+40.20361-075.00417/");
+    assertParse("  40.20361 , -75.00417 ", "+40.20361-075.00417/");
+    assertParse("+40.5,-75,-12.5", "+40.5-075-12.5/");
+    assertParse("40,180", "+40-180/");
+    assertParse("4.05e1,-7.5E+1", "+40.5-075/");
+    assertParse(".5,5.", "+00.5+005/");
+  }
+
+  @Test
+  public void roundTrip() throws ParserException, FormatterException {
+    final Random random = new Random(6709);
+    for (int i = 0; i < 100_000; i++) {
+      final double latitudeDegrees;
+      final double longitudeDegrees;
+      final int fractionDigits;
+      if (i % 2 == 0) {
+        // Typical inputs, with a few decimals
+        fractionDigits = random.nextInt(8);
+        final double scale = Math.pow(10, fractionDigits);
+        latitudeDegrees = Math.round((random.nextDouble() * 180 - 90) * scale) / scale;
+        longitudeDegrees = Math.round((random.nextDouble() * 359 - 179.5) * scale) / scale;
+      } else {
+        fractionDigits = Integer.MAX_VALUE;
+        latitudeDegrees = random.nextDouble() * 180 - 90;
+        longitudeDegrees = random.nextDouble() * 359 - 179.5;
+      }
+      final PointLocation pointLocation =
+          new PointLocation(
+              new Latitude(Angle.fromDegrees(latitudeDegrees)),
+              new Longitude(Angle.fromDegrees(longitudeDegrees)));
+
+      final String formatted =
+          PointLocationFormatter.formatPointLocation(
+              pointLocation, PointLocationFormatType.DECIMAL_DEGREES);
+      assertThat(formatted, PointLocationParser.parseDecimalDegrees(formatted), is(pointLocation));
+      // No more digits than the input had
+      for (final String coordinate : formatted.split(",")) {
+        final int point = coordinate.indexOf('.');
+        final int formattedFractionDigits = point < 0 ? 0 : coordinate.length() - point - 1;
+        assertThat(formatted, formattedFractionDigits <= fractionDigits, is(true));
+      }
+    }
+  }
+
+  private void assertFormat(final String iso6709, final String expected)
+      throws ParserException, FormatterException {
+    assertThat(
+        PointLocationFormatter.formatPointLocation(
+            PointLocationParser.parsePointLocation(iso6709),
+            PointLocationFormatType.DECIMAL_DEGREES),
+        is(expected));
+  }
+
+  private void assertParse(final String decimalDegrees, final String iso6709)
+      throws ParserException {
+    assertThat(
+        decimalDegrees,
+        PointLocationParser.parseDecimalDegrees(decimalDegrees),
+        is(PointLocationParser.parsePointLocation(iso6709)));
+  }
+}
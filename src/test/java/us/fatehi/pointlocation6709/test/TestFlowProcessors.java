@@ -0,0 +1,250 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.flow.PointLocationFormattingProcessor;
+import us.fatehi.pointlocation6709.flow.PointLocationParsingProcessor;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestFlowProcessors {
+
+  /** Collects items, requesting them a few at a time. */
+  private static final class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final long limit;
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+
+    CollectingSubscriber(final long limit) {
+      this.limit = limit;
+    }
+
+    boolean await() throws InterruptedException {
+      return finished.await(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void onComplete() {
+      finished.countDown();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+      finished.countDown();
+    }
+
+    @Override
+    public void onNext(final T item) {
+      items.add(item);
+      if (items.size() < limit && items.size() % 3 == 0) {
+        subscription.request(3);
+      }
+      if (items.size() == limit) {
+        finished.countDown();
+      }
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(3);
+    }
+  }
+
+  /** Breaks the rules on the second item, by asking for no items, or by throwing. */
+  private static final class MisbehavingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final boolean isThrowing;
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+
+    MisbehavingSubscriber(final boolean isThrowing) {
+      this.isThrowing = isThrowing;
+    }
+
+    boolean await() throws InterruptedException {
+      return finished.await(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void onComplete() {
+      finished.countDown();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+      finished.countDown();
+    }
+
+    @Override
+    public void onNext(final T item) {
+      items.add(item);
+      if (items.size() == 2) {
+        if (isThrowing) {
+          throw new IllegalStateException("Subscriber failed");
+        }
+        subscription.request(0);
+      }
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(10);
+    }
+  }
+
+  /** Publishes an endless stream of point location strings, only as fast as they are requested. */
+  private static final class EndlessPublisher implements Flow.Publisher<String> {
+
+    private final AtomicLong requested = new AtomicLong();
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super String> subscriber) {
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+            private long count;
+
+            @Override
+            public void cancel() {}
+
+            @Override
+            public void request(final long n) {
+              requested.addAndGet(n);
+              for (long i = 0; i < n; i++) {
+                count++;
+                subscriber.onNext("+" + (10 + count % 80) + "-075/");
+              }
+            }
+          });
+    }
+  }
+
+  private static String pointLocationString(final int i) {
+    return i % 10 == 9 ? "bad/" : "+" + (10 + i % 80) + "-" + (100 + i % 79) + "/";
+  }
+
+  @Test
+  public void backpressure() throws InterruptedException {
+    final EndlessPublisher publisher = new EndlessPublisher();
+    final PointLocationParsingProcessor processor =
+        new PointLocationParsingProcessor(ForkJoinPool.commonPool(), 16, null);
+    final CollectingSubscriber<PointLocation> subscriber = new CollectingSubscriber<>(30);
+    processor.subscribe(subscriber);
+    publisher.subscribe(processor);
+
+    assertThat(subscriber.await(), is(true));
+    assertThat(subscriber.items.size(), is(30));
+    // Upstream is asked for no more than has been delivered, plus one buffer
+    Thread.sleep(100);
+    assertThat(publisher.requested.get() <= 30 + 16 + 12, is(true));
+  }
+
+  @Test
+  public void errorsDownstream() throws InterruptedException {
+    final PointLocationParsingProcessor processor = new PointLocationParsingProcessor();
+    final CollectingSubscriber<PointLocation> subscriber = new CollectingSubscriber<>(1_000);
+    processor.subscribe(subscriber);
+    try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      for (int i = 0; i < 100; i++) {
+        publisher.submit(pointLocationString(i));
+      }
+    }
+
+    assertThat(subscriber.await(), is(true));
+    assertThat(subscriber.error, is(instanceOf(ParserException.class)));
+    assertThat(subscriber.items.size(), is(9));
+  }
+
+  @Test
+  public void errorsToSideChannel() throws Exception {
+    final List<String> failed = Collections.synchronizedList(new ArrayList<>());
+    final PointLocationParsingProcessor parser =
+        new PointLocationParsingProcessor(
+            ForkJoinPool.commonPool(), 32, (representation, e) -> failed.add(representation));
+    final PointLocationFormattingProcessor formatter =
+        new PointLocationFormattingProcessor(PointLocationFormatType.MEDIUM);
+    final CollectingSubscriber<String> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+    parser.subscribe(formatter);
+    formatter.subscribe(subscriber);
+
+    final int count = 10_000;
+    try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(parser);
+      for (int i = 0; i < count; i++) {
+        publisher.submit(pointLocationString(i));
+      }
+    }
+
+    assertThat(subscriber.await(), is(true));
+    assertThat(subscriber.error == null, is(true));
+    assertThat(failed.size(), is(count / 10));
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final String representation = pointLocationString(i);
+      if (!representation.equals("bad/")) {
+        expected.add(
+            PointLocationFormatter.formatPointLocation(
+                PointLocationParser.parsePointLocation(representation),
+                PointLocationFormatType.MEDIUM));
+      }
+    }
+    assertThat(subscriber.items, is(expected));
+  }
+
+  @Test
+  public void invalidDemand() throws InterruptedException {
+    final PointLocationParsingProcessor processor =
+        new PointLocationParsingProcessor(ForkJoinPool.commonPool(), 16, null);
+    final MisbehavingSubscriber<PointLocation> subscriber = new MisbehavingSubscriber<>(false);
+    processor.subscribe(subscriber);
+    new EndlessPublisher().subscribe(processor);
+
+    assertThat(subscriber.await(), is(true));
+    assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+    assertThat(subscriber.items.size(), is(2));
+  }
+
+  @Test
+  public void throwingSubscriber() throws InterruptedException {
+    final PointLocationParsingProcessor processor =
+        new PointLocationParsingProcessor(ForkJoinPool.commonPool(), 16, null);
+    final MisbehavingSubscriber<PointLocation> subscriber = new MisbehavingSubscriber<>(true);
+    processor.subscribe(subscriber);
+    new EndlessPublisher().subscribe(processor);
+
+    assertThat(subscriber.await(), is(true));
+    assertThat(subscriber.error, is(instanceOf(IllegalStateException.class)));
+    assertThat(subscriber.items.size(), is(2));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParserException;
+
+public class TestHumanFormatParser {
+
+  private static final int LENGTH = 1_000_000;
+
+  private static String repeat(final String prefix, final String unit, final String suffix) {
+    final StringBuilder buffer = new StringBuilder(LENGTH + prefix.length() + suffix.length());
+    buffer.append(prefix);
+    while (buffer.length() < LENGTH) {
+      buffer.append(unit);
+    }
+    buffer.append(suffix);
+    return buffer.toString();
+  }
+
+  @Test
+  public void adversarialInput() {
+    final CoordinateParser parser = new CoordinateParser();
+    final String[] inputs = {
+      repeat("", "x", "°"),
+      repeat("", "N", ""),
+      repeat("48°", " ", "1x"),
+      repeat("", "1'", ""),
+      repeat("", "°'\"", ""),
+      repeat("-", "-", "1°"),
+      repeat("", "9", "°N"),
+    };
+    // Quadratic or exponential scanning of a million characters would take far longer
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          for (final String input : inputs) {
+            assertThrows(ParserException.class, () -> parser.parseLatitude(input));
+          }
+        });
+  }
+
+  @Test
+  public void leadingCompassDirection() throws ParserException {
+    final CoordinateParser parser = new CoordinateParser();
+    assertThat(parser.parseLatitude("N 48° 30'").getDegrees(), is(48.5));
+    assertThat(parser.parseLatitude("S48°30'").getDegrees(), is(-48.5));
+    assertThat(parser.parseLongitude("W 48° 30'").getDegrees(), is(-48.5));
+  }
+
+  @Test
+  public void malformed() {
+    final CoordinateParser parser = new CoordinateParser();
+    final String[] inputs = {
+      "°",
+      "48°°",
+      "36' 48°",
+      "12\" 48°",
+      "48° 12\" 36'",
+      "48° 36",
+      "48 °",
+      "48° 36' N S",
+      "N 48° 36' S",
+      "48° N 36'",
+      "48° -36'",
+      ".5°",
+      "48.5.5°",
+      "48° x",
+    };
+    for (final String input : inputs) {
+      assertThrows(ParserException.class, () -> parser.parseLatitude(input), input);
+    }
+  }
+
+  @Test
+  public void signAndCompassDirection() throws ParserException {
+    final CoordinateParser parser = new CoordinateParser();
+    assertThat(parser.parseLatitude("- 48° 30'").getDegrees(), is(-48.5));
+    assertThat(parser.parseLatitude("-48° 30' S").getDegrees(), is(-48.5));
+    assertThat(parser.parseLatitude("+48° 30' S").getDegrees(), is(-48.5));
+  }
+}
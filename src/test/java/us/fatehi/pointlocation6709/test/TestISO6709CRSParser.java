@@ -8,16 +8,13 @@ package us.fatehi.pointlocation6709.test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import us.fatehi.pointlocation6709.parse.CoordinateParser;
 import us.fatehi.pointlocation6709.parse.PointLocationParser;
 
 public class TestISO6709CRSParser {
@@ -26,11 +23,11 @@ public class TestISO6709CRSParser {
 
   @Test
   public void crs() throws Exception {
-    new CoordinateParser();
     for (final Entry<String, String> testCase : testCases.entrySet()) {
       final String representation = testCase.getKey();
-      final List<String> split = split(representation);
-      final String crs = split.get(split.size() - 1);
+      final String crs =
+          PointLocationParser.parsePointLocation(representation)
+              .getCoordinateReferenceSystemIdentifier();
       assertThat(representation, testCase.getValue(), is(crs));
     }
   }
@@ -53,14 +50,9 @@ public class TestISO6709CRSParser {
     testCases.put("+4012.22-07500.25-169.2CRSxxxx/", "xxxx");
     testCases.put("+401213-0750015+2.79CRSxxxx/", "xxxx");
     testCases.put("+401213.1-0750015.1+2.79CRSxxxx/", "xxxx");
-  }
-
-  private List<String> split(final String representation) throws Exception {
-    final Method method = PointLocationParser.class.getDeclaredMethod("split", String.class);
-    method.setAccessible(true);
 
-    final PointLocationParser parser = new PointLocationParser();
-    final List<String> split = (List<String>) method.invoke(parser, representation);
-    return split;
+    testCases.put("+40-075CRSWGS-84/", "WGS-84");
+    testCases.put("+40-075+350CRS84/", "84");
+    testCases.put("+40-075+350CRSEPSG:4326/", "EPSG:4326");
   }
 }
@@ -8,18 +8,20 @@ package us.fatehi.pointlocation6709.test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.math.NumberUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.pointlocation6709.parse.CoordinateParser;
-import us.fatehi.pointlocation6709.parse.PointLocationParser;
 
 public class TestISO6709LongitudeParser {
 
@@ -27,8 +29,13 @@ public class TestISO6709LongitudeParser {
 
   @Test
   public void longitudes() throws Exception {
+    final Class<?> contextClass =
+        Class.forName("us.fatehi.pointlocation6709.parse.ParseContext");
+    final Constructor<?> contextConstructor = contextClass.getDeclaredConstructor();
+    contextConstructor.setAccessible(true);
     final Method method =
-        CoordinateParser.class.getDeclaredMethod("parseISO6709Format", String.class);
+        CoordinateParser.class.getDeclaredMethod(
+            "parseISO6709Format", CharSequence.class, int.class, int.class, contextClass);
     method.setAccessible(true);
 
     final CoordinateParser parser = new CoordinateParser();
@@ -36,8 +43,15 @@ public class TestISO6709LongitudeParser {
       final String representation = testCase.getKey();
       final List<String> split = split(representation);
       final String longitudeString = split.get(1);
-      final List<String> values = (List<String>) method.invoke(parser, longitudeString);
-      assertThat(representation, parseAngle(values), is(testCase.getValue()));
+      final double angle =
+          (Double)
+              method.invoke(
+                  parser,
+                  longitudeString,
+                  0,
+                  longitudeString.length(),
+                  contextConstructor.newInstance());
+      assertThat(representation, angle, is(testCase.getValue()));
     }
   }
 
@@ -69,22 +83,12 @@ public class TestISO6709LongitudeParser {
     testCases.put("N401213.1W0750015.1CRSxxxx/", -75 - 0 / 60D - 15.1 / 3600D);
   }
 
-  private double parseAngle(final List<String> coordinateTokens) {
-    final int sign = NumberUtils.toInt(coordinateTokens.get(0), 1);
-    final double degrees = NumberUtils.toDouble(coordinateTokens.get(1), 0);
-    final double minutes = NumberUtils.toDouble(coordinateTokens.get(2), 0);
-    final double seconds = NumberUtils.toDouble(coordinateTokens.get(3), 0);
-
-    final double angle = sign * (degrees + minutes / 60D + seconds / 3600D);
-    return angle;
-  }
-
-  private List<String> split(final String representation) throws Exception {
-    final Method method = PointLocationParser.class.getDeclaredMethod("split", String.class);
-    method.setAccessible(true);
-
-    final PointLocationParser parser = new PointLocationParser();
-    final List<String> split = (List<String>) method.invoke(parser, representation);
-    return split;
+  private List<String> split(final String representation) {
+    final List<String> tokens = new ArrayList<>();
+    final Matcher matcher = Pattern.compile("([NSEW\\+\\-]\\d+\\.?\\d*)").matcher(representation);
+    while (matcher.find()) {
+      tokens.add(matcher.group(1));
+    }
+    return tokens;
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.LazyPointLocation;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestLazyPointLocation {
+
+  @Test
+  public void badStructure() {
+    final String[] representations = {
+      null, " ", "+40-075", "+40/", "4000/", "+40-075xyz/", "+40-075+/", "+40-075+100+200/",
+    };
+    for (final String representation : representations) {
+      assertThrows(
+          ParserException.class,
+          () -> PointLocationParser.parseLazyPointLocation(representation),
+          representation);
+    }
+  }
+
+  @Test
+  public void badValuesAreFoundWhenDecoded() throws ParserException {
+    final LazyPointLocation lazyPointLocation =
+        PointLocationParser.parseLazyPointLocation("+4060-18100+12/");
+    // Fields that are not decoded do not fail
+    assertThat(lazyPointLocation.getAltitude(), is(12D));
+    assertThat(lazyPointLocation.toString(), is("+4060-18100+12/"));
+
+    final IllegalStateException exception =
+        assertThrows(IllegalStateException.class, lazyPointLocation::getLatitude);
+    assertThat(exception.getCause() instanceof ParserException, is(true));
+    assertThrows(IllegalStateException.class, lazyPointLocation::getLongitude);
+    assertThrows(ParserException.class, lazyPointLocation::toPointLocation);
+  }
+
+  @Test
+  public void decodedFieldsAreKept() throws ParserException {
+    final LazyPointLocation lazyPointLocation =
+        PointLocationParser.parseLazyPointLocation("+40.20361-075.00417CRSxxx/");
+    assertThat(lazyPointLocation.getLatitude(), is(sameInstance(lazyPointLocation.getLatitude())));
+    assertThat(
+        lazyPointLocation.getLongitude(), is(sameInstance(lazyPointLocation.getLongitude())));
+    assertThat(
+        lazyPointLocation.getCoordinateReferenceSystemIdentifier(),
+        is(sameInstance(lazyPointLocation.getCoordinateReferenceSystemIdentifier())));
+  }
+
+  @Test
+  public void region() throws ParserException {
+    final StringBuilder buffer = new StringBuilder("xx+401213-0750015+2.79CRS WGS_84/yy");
+    final LazyPointLocation lazyPointLocation =
+        PointLocationParser.parseLazyPointLocation(buffer, 2, buffer.length() - 2);
+    // The region is copied, so later changes to the buffer do not affect the view
+    buffer.setLength(0);
+    assertThat(lazyPointLocation.toString(), is("+401213-0750015+2.79CRS WGS_84/"));
+    assertThat(lazyPointLocation.getCoordinateReferenceSystemIdentifier(), is("WGS_84"));
+    assertThat(
+        lazyPointLocation.toPointLocation(),
+        is(PointLocationParser.parsePointLocation("+401213-0750015+2.79CRS WGS_84/")));
+
+    assertThrows(
+        ParserException.class,
+        () -> PointLocationParser.parseLazyPointLocation("xx+40-075yy", 2, 9));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> PointLocationParser.parseLazyPointLocation("+40-075/", 2, 9));
+  }
+
+  @Test
+  public void sameAsParser() throws ParserException {
+    final String[] representations = {
+      "+40-075/",
+      "+40.20361-075.00417/",
+      "+401213.1-0750015.1/",
+      "+4012.22-07500.25-169.2/",
+      "+401213-0750015+2.79CRSxxxx/",
+      "  +40 -075 +350.5 CRS WGS_84  /",
+      "N40W075/",
+      "-900000+1795959.99/",
+    };
+    for (final String representation : representations) {
+      final PointLocation expected = PointLocationParser.parsePointLocation(representation);
+      final LazyPointLocation lazyPointLocation =
+          PointLocationParser.parseLazyPointLocation(representation);
+      assertThat(representation, lazyPointLocation.getLatitude(), is(expected.getLatitude()));
+      assertThat(representation, lazyPointLocation.getLongitude(), is(expected.getLongitude()));
+      assertThat(representation, lazyPointLocation.getAltitude(), is(expected.getAltitude()));
+      assertThat(
+          representation,
+          lazyPointLocation.getCoordinateReferenceSystemIdentifier(),
+          is(expected.getCoordinateReferenceSystemIdentifier()));
+      assertThat(representation, lazyPointLocation.toPointLocation(), is(expected));
+      assertThat(representation, lazyPointLocation.toString(), is(representation));
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.fatehi.pointlocation6709.Main;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestMainBatchMode {
+
+  @TempDir public Path directory;
+
+  @Test
+  public void badArguments() throws Exception {
+    final String err = runMain("--format", "fancy");
+    assertThat(err, containsString("FANCY"));
+    assertThat(err, containsString("Usage:"));
+  }
+
+  @Test
+  public void badPort() throws Exception {
+    String err = runMain("--serve", "abc");
+    assertThat(err, containsString("Port is not a number, abc"));
+    assertThat(err, containsString("Usage:"));
+
+    err = runMain("--serve", "70000");
+    assertThat(err, containsString("Port must be from 0 to 65535, 70000"));
+    assertThat(err, containsString("Usage:"));
+  }
+
+  @Test
+  public void coordinates() throws Exception {
+    final Path input = directory.resolve("input.txt");
+    final Path output = directory.resolve("output.txt");
+    Files.write(input, List.of("40°12'13\"N, 75°0'15\"W", "+40.5,-075", "40N"), UTF_8);
+
+    final String err =
+        runMain(
+            "--input", input.toString(),
+            "--output", output.toString(),
+            "--input-format", "coordinates",
+            "--format", "short");
+    assertThat(
+        Files.readAllLines(output, UTF_8),
+        is(
+            List.of(
+                PointLocationFormatter.formatPointLocation(
+                    PointLocationParser.parsePointLocation("+401213-0750015/"),
+                    PointLocationFormatType.SHORT),
+                PointLocationFormatter.formatPointLocation(
+                    PointLocationParser.parsePointLocation("+40.5-075/"),
+                    PointLocationFormatType.SHORT))));
+    assertThat(err, containsString("Line 3: "));
+  }
+
+  @Test
+  public void iso6709InOrder() throws Exception {
+    final Path input = directory.resolve("input.txt");
+    final Path output = directory.resolve("output.txt");
+    final List<String> lines = new ArrayList<>();
+    final List<String> expected = new ArrayList<>();
+    final List<Integer> badLineNumbers = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      if (i % 1000 == 7) {
+        lines.add("+40-075");
+        badLineNumbers.add(i + 1);
+      } else if (i % 1000 == 8) {
+        lines.add("");
+      } else {
+        final String line = "+" + (10 + i % 80) + "-" + (100 + i % 79) + "/";
+        lines.add(line);
+        expected.add(
+            PointLocationFormatter.formatPointLocation(
+                PointLocationParser.parsePointLocation(line), PointLocationFormatType.MEDIUM));
+      }
+    }
+    Files.write(input, lines, UTF_8);
+
+    final String err =
+        runMain(
+            "--batch",
+            "--input", input.toString(),
+            "--output", output.toString(),
+            "--format", "medium",
+            "--threads", "3",
+            "--stats");
+    assertThat(Files.readAllLines(output, UTF_8), is(expected));
+    for (final int lineNumber : badLineNumbers) {
+      assertThat(err, containsString("Line " + lineNumber + ": "));
+    }
+    assertThat(
+        err,
+        containsString(
+            "Lines: 20000, converted: " + expected.size() + ", failed: " + badLineNumbers.size()));
+  }
+
+  private String runMain(final String... args) throws Exception {
+    final PrintStream originalErr = System.err;
+    final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    System.setErr(new PrintStream(err, true, UTF_8));
+    try {
+      Main.main(args);
+    } finally {
+      System.setErr(originalErr);
+    }
+    return err.toString(UTF_8);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.NmeaSentenceParser;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParseStatus;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestNmeaSentenceParser {
+
+  private static final String GGA =
+      "$GPGGA,123519,4807.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,*47";
+  private static final String RMC =
+      "$GPRMC,123519,A,4807.038,N,01131.000,E,022.4,084.4,230394,003.1,W*6A";
+
+  private static String withChecksum(final String body) {
+    int checksum = 0;
+    for (int i = 0; i < body.length(); i++) {
+      checksum = checksum ^ body.charAt(i);
+    }
+    return String.format("$%s*%02X", body, checksum);
+  }
+
+  @Test
+  public void failures() {
+    assertFailure(GGA.replace("*47", "*48"), ParseStatus.BAD_CHECKSUM);
+    assertFailure(GGA.replace("*47", ""), ParseStatus.BAD_CHECKSUM);
+    assertFailure(GGA.replace("*47", "*4"), ParseStatus.BAD_CHECKSUM);
+    assertFailure(withChecksum("GPGSV,3,1,11,03,03,111,00"), ParseStatus.UNSUPPORTED_SENTENCE);
+    assertFailure(
+        withChecksum("GPGGA,123519,,,,,0,00,,,M,,M,,"), ParseStatus.NO_FIX);
+    assertFailure(
+        withChecksum("GPRMC,123519,V,4807.038,N,01131.000,E,,,230394,,"), ParseStatus.NO_FIX);
+    assertFailure(
+        withChecksum("GPGGA,123519,4867.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,"),
+        ParseStatus.TOO_MANY_MINUTES);
+    assertFailure(
+        withChecksum("GPGGA,123519,9107.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,"),
+        ParseStatus.LATITUDE_OUT_OF_RANGE);
+    assertFailure(
+        withChecksum("GPGGA,123519,4807.038,X,01131.000,E,1,08,0.9,545.4,M,46.9,M,,"),
+        ParseStatus.UNEXPECTED_CHARACTER);
+    assertFailure(
+        withChecksum("GPGGA,123519,48.07038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,"),
+        ParseStatus.UNEXPECTED_CHARACTER);
+    assertFailure("GPGGA", ParseStatus.UNEXPECTED_CHARACTER);
+    assertFailure(" ", ParseStatus.NO_VALUE);
+
+    assertThrows(ParserException.class, () -> NmeaSentenceParser.parseSentence(RMC + "x"));
+    assertThrows(ParserException.class, () -> NmeaSentenceParser.parseSentence(null));
+  }
+
+  @Test
+  public void gga() throws ParserException {
+    final PointLocation pointLocation = NmeaSentenceParser.parseSentence(GGA + "\r\n");
+    assertThat(
+        pointLocation, is(PointLocationParser.parsePointLocation("+4807.038+01131.000+545.4/")));
+
+    final PointLocation southWest =
+        NmeaSentenceParser.parseSentence(
+            withChecksum("GNGGA,001043.00,3352.1289,S,15112.4150,W,2,12,0.7,-12.5,M,,M,,"));
+    assertThat(
+        southWest, is(PointLocationParser.parsePointLocation("-3352.1289-15112.4150-12.5/")));
+  }
+
+  @Test
+  public void primitiveBuffers() {
+    final String lines =
+        GGA
+            + "\r\n"
+            + withChecksum("GPGSV,3,1,11,03,03,111,00")
+            + "\n"
+            + RMC
+            + "\n"
+            + GGA.replace("*47", "*00")
+            + "\n"
+            + withChecksum("GNGGA,001043.00,3352.1289,S,15112.4150,W,2,12,0.7,-12.5,M,,M,,")
+            + "\n"
+            + "$GPGGA,1235";
+    final ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(US_ASCII));
+
+    final double[] latitudes = new double[2];
+    final double[] longitudes = new double[2];
+    final double[] altitudes = new double[2];
+    assertThat(NmeaSentenceParser.parseSentences(buffer, latitudes, longitudes, altitudes), is(2));
+    assertThat(latitudes[0], is(48 + 7.038 / 60));
+    assertThat(longitudes[0], is(11 + 31.000 / 60));
+    assertThat(altitudes[0], is(545.4));
+    assertThat(latitudes[1], is(48 + 7.038 / 60));
+    assertThat(altitudes[1], is(0D));
+    // Stopped after the RMC sentence, since the arrays are full
+    assertThat(buffer.position(), is(lines.indexOf(GGA.replace("*47", "*00"))));
+
+    // Resume, and stop at the incomplete last line
+    assertThat(NmeaSentenceParser.parseSentences(buffer, latitudes, longitudes, null), is(1));
+    assertThat(latitudes[0], is(-(33 + 52.1289 / 60)));
+    assertThat(longitudes[0], is(-(151 + 12.4150 / 60)));
+    assertThat(buffer.position(), is(lines.lastIndexOf("$GPGGA,1235")));
+  }
+
+  @Test
+  public void rmc() throws ParserException {
+    final ParseResult result = NmeaSentenceParser.tryParseSentence(RMC, 0, RMC.length());
+    assertThat(result.isSuccess(), is(true));
+    assertThat(
+        result.getPointLocation(),
+        is(PointLocationParser.parsePointLocation("+4807.038+01131.000/")));
+  }
+
+  private void assertFailure(final String sentence, final ParseStatus status) {
+    final ParseResult result = NmeaSentenceParser.tryParseSentence(sentence, 0, sentence.length());
+    assertThat(sentence, result.getStatus(), is(status));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+/** Stress tests for parsers that are shared between threads. */
+public class TestParserConcurrency {
+
+  private static final int THREADS = 64;
+  private static final int ITERATIONS = 2_000;
+
+  private static final String[] POINT_LOCATIONS = {
+    "+40-075/",
+    "+40.20361-075.00417/",
+    "+4012-07500/",
+    "+4012.22-07500.25-169.2/",
+    "+401213-0750015+2.79CRSxxxx/",
+    "-900000+1795959.99/",
+    "+40121300-075001500/",
+    "+4060-07560/",
+    "bad/",
+  };
+
+  private static final String[] LATITUDES = {
+    "+483612.20",
+    "-48° 36' 12.20\"",
+    "48.60333333333334° S",
+    "36' 12.20\" N",
+    "-48° 36° 12.20\"",
+    "+9100",
+  };
+
+  @Test
+  public void sharedCoordinateParser() throws Exception {
+    final CoordinateParser parser = new CoordinateParser();
+    final Object[] expected = new Object[LATITUDES.length];
+    for (int i = 0; i < LATITUDES.length; i++) {
+      expected[i] = parseLatitude(parser, LATITUDES[i]);
+    }
+
+    runConcurrently(
+        () -> {
+          for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            final int i = iteration % LATITUDES.length;
+            assertThat(LATITUDES[i], parseLatitude(parser, LATITUDES[i]), is(expected[i]));
+          }
+          return null;
+        });
+  }
+
+  @Test
+  public void sharedPointLocationParser() throws Exception {
+    final Object[] expected = new Object[POINT_LOCATIONS.length];
+    for (int i = 0; i < POINT_LOCATIONS.length; i++) {
+      expected[i] = parsePointLocation(POINT_LOCATIONS[i]);
+    }
+
+    runConcurrently(
+        () -> {
+          for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            final int i = iteration % POINT_LOCATIONS.length;
+            assertThat(
+                POINT_LOCATIONS[i], parsePointLocation(POINT_LOCATIONS[i]), is(expected[i]));
+          }
+          return null;
+        });
+  }
+
+  /** Returns the parsed latitude, or the error message if it cannot be parsed. */
+  private Object parseLatitude(final CoordinateParser parser, final String representation) {
+    try {
+      final Latitude latitude = parser.parseLatitude(representation);
+      return latitude;
+    } catch (final ParserException e) {
+      return e.getMessage();
+    }
+  }
+
+  /** Returns the parsed point location, or the error message if it cannot be parsed. */
+  private Object parsePointLocation(final String representation) {
+    try {
+      final PointLocation pointLocation = PointLocationParser.parsePointLocation(representation);
+      return pointLocation;
+    } catch (final ParserException e) {
+      return e.getMessage();
+    }
+  }
+
+  private void runConcurrently(final Callable<Void> task) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final CountDownLatch startSignal = new CountDownLatch(1);
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  startSignal.await();
+                  return task.call();
+                }));
+      }
+      startSignal.countDown();
+      for (final Future<Void> future : futures) {
+        // Rethrows any assertion failure from the worker thread
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
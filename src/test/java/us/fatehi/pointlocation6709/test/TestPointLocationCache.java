@@ -0,0 +1,117 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationCache;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestPointLocationCache {
+
+  private static String pointLocationString(final int i) {
+    return String.format("+%02d-%03d/", i % 90, i % 180);
+  }
+
+  @Test
+  public void badArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new PointLocationCache(0));
+    assertThrows(IllegalArgumentException.class, () -> new PointLocationCache(10, 0));
+  }
+
+  @Test
+  public void bounded() throws ParserException {
+    final PointLocationCache cache = new PointLocationCache(100, 8);
+    for (int i = 0; i < 1_000; i++) {
+      cache.parsePointLocation(pointLocationString(i * 7919));
+      assertThat(cache.size() <= 100, is(true));
+    }
+    assertThat(cache.getEvictionCount() > 0, is(true));
+    assertThat(cache.getEvictionCount(), is(cache.getMissCount() - cache.size()));
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    final PointLocationCache cache = new PointLocationCache(64);
+    final ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      final List<Callable<Void>> tasks = new ArrayList<>();
+      for (int thread = 0; thread < 16; thread++) {
+        tasks.add(
+            () -> {
+              for (int i = 0; i < 5_000; i++) {
+                final String representation = pointLocationString(i % 100);
+                assertThat(
+                    cache.parsePointLocation(representation),
+                    is(PointLocationParser.parsePointLocation(representation)));
+              }
+              return null;
+            });
+      }
+      for (final Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(cache.size() <= 64, is(true));
+    assertThat(cache.getHitCount() + cache.getMissCount(), is(16L * 5_000));
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() throws ParserException {
+    final PointLocationCache cache = new PointLocationCache(2, 1);
+    final PointLocation first = cache.parsePointLocation("+40-075/");
+    cache.parsePointLocation("+41-075/");
+    // Use the first again, so that the second is evicted
+    cache.parsePointLocation("+40-075/");
+    cache.parsePointLocation("+42-075/");
+    assertThat(cache.getEvictionCount(), is(1L));
+    assertThat(cache.parsePointLocation("+40-075/"), is(sameInstance(first)));
+    assertThat(cache.getHitCount(), is(2L));
+    assertThat(cache.getMissCount(), is(3L));
+  }
+
+  @Test
+  public void failuresAreNotCached() {
+    final PointLocationCache cache = new PointLocationCache(10);
+    assertThrows(ParserException.class, () -> cache.parsePointLocation("bad/"));
+    assertThrows(ParserException.class, () -> cache.parsePointLocation("bad/"));
+    assertThrows(ParserException.class, () -> cache.parsePointLocation(null));
+    assertThat(cache.size(), is(0));
+    assertThat(cache.getMissCount(), is(2L));
+  }
+
+  @Test
+  public void sharedInstances() throws ParserException {
+    final PointLocationCache cache = new PointLocationCache(10);
+    final PointLocation pointLocation = cache.parsePointLocation("+40.20361-075.00417/");
+    assertThat(cache.parsePointLocation("+40.20361-075.00417/"), is(sameInstance(pointLocation)));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.size(), is(1));
+
+    cache.clear();
+    assertThat(cache.size(), is(0));
+    assertThat(
+        cache.toString(),
+        is("PointLocationCache [size=0, maximumSize=10, hits=1, misses=1, evictions=0]"));
+  }
+}
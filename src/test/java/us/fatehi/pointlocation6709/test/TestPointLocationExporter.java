@@ -0,0 +1,186 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.fatehi.pointlocation6709.Angle;
+import us.fatehi.pointlocation6709.Latitude;
+import us.fatehi.pointlocation6709.Longitude;
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationExporter;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+
+public class TestPointLocationExporter {
+
+  private static String expected(
+      final PointLocation[] pointLocations, final PointLocationFormatType formatType)
+      throws FormatterException {
+    final StringBuilder buffer = new StringBuilder();
+    for (final PointLocation pointLocation : pointLocations) {
+      PointLocationFormatter.formatPointLocation(pointLocation, formatType, buffer);
+      buffer.append('\n');
+    }
+    return buffer.toString();
+  }
+
+  private static PointLocation[] randomPointLocations(final int count) {
+    final Random random = new Random(6709);
+    final PointLocation[] pointLocations = new PointLocation[count];
+    for (int i = 0; i < count; i++) {
+      pointLocations[i] =
+          new PointLocation(
+              new Latitude(Angle.fromDegrees(random.nextDouble() * 180 - 90)),
+              new Longitude(Angle.fromDegrees(random.nextDouble() * 360 - 180)),
+              random.nextBoolean() ? 0 : random.nextGaussian() * 1000,
+              random.nextInt(10) == 0 ? "EPSG4326" : "");
+    }
+    return pointLocations;
+  }
+
+  @TempDir public Path directory;
+
+  @Test
+  public void emptyExport() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PointLocationExporter exporter = new PointLocationExporter(PointLocationFormatType.LONG);
+    assertThat(exporter.export(new PointLocation[0], Channels.newChannel(out)), is(0L));
+    assertThat(out.size(), is(0));
+  }
+
+  @Test
+  public void exportToChannelInOrder() throws Exception {
+    final PointLocation[] pointLocations = randomPointLocations(20_000);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (final PointLocationFormatType formatType : PointLocationFormatType.values()) {
+        final PointLocationExporter exporter =
+            new PointLocationExporter(formatType, executor, 997);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long byteCount = exporter.export(pointLocations, Channels.newChannel(out));
+        final String expected = expected(pointLocations, formatType);
+        assertThat(out.toString(UTF_8), is(expected));
+        assertThat(byteCount, is((long) out.size()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void exportToFile() throws Exception {
+    final List<PointLocation> pointLocations = Arrays.asList(randomPointLocations(10_000));
+    final Path path = directory.resolve("export.txt");
+    Files.writeString(path, "Text that is replaced by the export\n".repeat(100_000));
+
+    final PointLocationExporter exporter = new PointLocationExporter(PointLocationFormatType.LONG);
+    final long byteCount = exporter.export(pointLocations, path);
+    assertThat(
+        Files.readString(path, UTF_8),
+        is(expected(pointLocations.toArray(new PointLocation[0]), PointLocationFormatType.LONG)));
+    assertThat(byteCount, is(Files.size(path)));
+  }
+
+  @Test
+  public void failedExport() {
+    final PointLocation[] pointLocations = randomPointLocations(10_000);
+    pointLocations[7_500] = null;
+    final WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+    final PointLocationExporter exporter = new PointLocationExporter(PointLocationFormatType.LONG);
+    final FormatterException exception =
+        assertThrows(FormatterException.class, () -> exporter.export(pointLocations, channel));
+    assertThat(exception.getMessage(), is("No point location provided, at index 7500"));
+
+    assertThrows(FormatterException.class, () -> exporter.export((PointLocation[]) null, channel));
+    assertThrows(
+        FormatterException.class,
+        () -> exporter.export(new PointLocation[0], (WritableByteChannel) null));
+    assertThrows(NullPointerException.class, () -> new PointLocationExporter(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PointLocationExporter(PointLocationFormatType.LONG, Runnable::run, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PointLocationExporter(PointLocationFormatType.LONG, Runnable::run, 10, 0));
+  }
+
+  @Test
+  public void failedExportKeepsFile() throws Exception {
+    final Path path = directory.resolve("export.txt");
+    Files.writeString(path, "Text that is kept\n");
+    final PointLocationExporter exporter = new PointLocationExporter(PointLocationFormatType.LONG);
+    assertThrows(FormatterException.class, () -> exporter.export((PointLocation[]) null, path));
+    assertThrows(
+        FormatterException.class, () -> exporter.export((List<PointLocation>) null, path));
+    assertThat(Files.readString(path, UTF_8), is("Text that is kept\n"));
+  }
+
+  @Test
+  public void limitedByParallelism() throws Exception {
+    final PointLocation[] pointLocations = randomPointLocations(10_000);
+    final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+    // Chunks that have been handed to the executor, but not started yet
+    final AtomicInteger pending = new AtomicInteger();
+    final AtomicInteger maximumPending = new AtomicInteger();
+    final Executor executor =
+        task -> {
+          maximumPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+          singleThread.execute(
+              () -> {
+                pending.decrementAndGet();
+                task.run();
+              });
+        };
+    try {
+      final PointLocationExporter exporter =
+          new PointLocationExporter(PointLocationFormatType.LONG, executor, 100, 1);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      exporter.export(pointLocations, Channels.newChannel(out));
+      assertThat(out.toString(UTF_8), is(expected(pointLocations, PointLocationFormatType.LONG)));
+      assertThat(maximumPending.get() <= 2, is(true));
+    } finally {
+      singleThread.shutdownNow();
+    }
+  }
+
+  @Test
+  public void longLines() throws Exception {
+    final PointLocation[] pointLocations = randomPointLocations(10);
+    pointLocations[4] =
+        new PointLocation(
+            pointLocations[4].getLatitude(),
+            pointLocations[4].getLongitude(),
+            0,
+            "X".repeat(200_000));
+    final PointLocationExporter exporter =
+        new PointLocationExporter(PointLocationFormatType.SHORT, Runnable::run, 3);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exporter.export(pointLocations, Channels.newChannel(out));
+    assertThat(out.toString(UTF_8), is(expected(pointLocations, PointLocationFormatType.SHORT)));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import us.fatehi.pointlocation6709.parse.BatchParseResult;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationFileParser;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestPointLocationFileParser {
+
+  private static final String[] LINES = {
+    "+40-075/",
+    "+40.20361-075.00417/",
+    "bad",
+    "+4012-07500/",
+    "+4012.22-07500.25CRSxxxx/",
+    "",
+    "+401213-0750015/",
+    "+401260-0750060/",
+    "+401213.1-0750015.1+2.79CRSxxxx/",
+  };
+
+  @TempDir public Path directory;
+
+  @Test
+  public void emptyFile() throws IOException {
+    final Path file = directory.resolve("empty.txt");
+    Files.write(file, new byte[0]);
+
+    final BatchParseResult result = PointLocationFileParser.parsePointLocations(file);
+    assertThat(result.size(), is(0));
+    assertThat(result.getErrorCount(), is(0));
+  }
+
+  @Test
+  public void missingFile() {
+    assertThrows(
+        IOException.class,
+        () -> PointLocationFileParser.parsePointLocations(directory.resolve("missing.txt")));
+  }
+
+  @Test
+  public void parseFile() throws IOException, ParserException {
+    final Path file = directory.resolve("points.txt");
+    Files.write(file, (String.join("\n", LINES) + "\n").getBytes(US_ASCII));
+
+    checkResult(PointLocationFileParser.parsePointLocations(file));
+  }
+
+  @Test
+  public void parseFileInSmallChunks() throws IOException, ParserException {
+    final Path file = directory.resolve("points.txt");
+    // Windows line endings, and no final line terminator
+    Files.write(file, String.join("\r\n", LINES).getBytes(US_ASCII));
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int chunkSize = 1; chunkSize < 64; chunkSize++) {
+        checkResult(PointLocationFileParser.parsePointLocations(file, pool, chunkSize));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkResult(final BatchParseResult result) throws ParserException {
+    assertThat(result.size(), is(LINES.length));
+    assertThat(result.getErrorCount(), is(3));
+    assertThat(result.getErrors().get(0).getIndex(), is(2));
+    assertThat(result.getErrors().get(1).getIndex(), is(5));
+    assertThat(result.getErrors().get(2).getIndex(), is(7));
+    assertThat(result.getPointLocations().size(), is(LINES.length - 3));
+
+    for (int i = 0; i < LINES.length; i++) {
+      if (result.isFailed(i)) {
+        assertThat(result.get(i), is(nullValue()));
+      } else {
+        assertThat(result.get(i), is(PointLocationParser.parsePointLocation(LINES[i])));
+      }
+    }
+  }
+}
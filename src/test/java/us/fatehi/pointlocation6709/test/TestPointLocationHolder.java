@@ -0,0 +1,104 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParseStatus;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationHolder;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestPointLocationHolder {
+
+  @Test
+  public void failures() {
+    final PointLocationHolder holder = new PointLocationHolder();
+    assertThat(holder.isSuccess(), is(false));
+    assertThat(holder.getStatus(), is(ParseStatus.NO_VALUE));
+    assertThrows(IllegalStateException.class, holder::toPointLocation);
+
+    final String[] representations = {
+      "", "+40-075", "+40/", "+95-075/", "+40-075xyz/", "+4070-075/",
+    };
+    for (final String representation : representations) {
+      final ParseResult expected = PointLocationParser.tryParsePointLocation(representation);
+      assertThat(
+          PointLocationParser.tryParsePointLocation(
+              representation, 0, representation.length(), holder),
+          is(false));
+      assertThat(representation, holder.getStatus(), is(expected.getStatus()));
+      assertThat(representation, holder.getErrorOffset(), is(expected.getErrorOffset()));
+      assertThrows(
+          ParserException.class,
+          () ->
+              PointLocationParser.parsePointLocation(
+                  representation, 0, representation.length(), holder));
+    }
+
+    assertThat(PointLocationParser.tryParsePointLocation(null, 0, 0, holder), is(false));
+    assertThat(holder.getStatus(), is(ParseStatus.NO_VALUE));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> PointLocationParser.tryParsePointLocation("+40-075/", 0, 9, holder));
+  }
+
+  @Test
+  public void reuse() throws ParserException {
+    final String[] representations = {
+      "+40.20361-075.00417/",
+      "+401213.1-0750015.1+2.79CRSWGS_85 /",
+      "-90+179.5-12.5/",
+      "N40W075/",
+      " +00+000 CRS /",
+    };
+    final PointLocationHolder holder = new PointLocationHolder();
+    for (final String representation : representations) {
+      PointLocationParser.parsePointLocation(representation, 0, representation.length(), holder);
+      final PointLocation expected = PointLocationParser.parsePointLocation(representation);
+      assertThat(holder.isSuccess(), is(true));
+      assertThat(holder.getStatus(), is(ParseStatus.OK));
+      assertThat(holder.getErrorOffset(), is(-1));
+      assertThat(holder.getLatitudeRadians(), is(expected.getLatitude().getRadians()));
+      assertThat(holder.getLongitudeRadians(), is(expected.getLongitude().getRadians()));
+      assertThat(holder.getAltitude(), is(expected.getAltitude()));
+      assertThat(
+          holder.getCoordinateReferenceSystemIdentifier(),
+          is(expected.getCoordinateReferenceSystemIdentifier()));
+      assertThat(holder.toPointLocation(), is(expected));
+      assertThat(holder.toPointLocation().toString(), is(expected.toString()));
+    }
+    assertThat(holder.getLatitudeDegrees(), is(0D));
+    assertThat(holder.getCoordinateReferenceSystemIdentifier(), is(""));
+
+    // A failed parse does not leave a point location behind
+    assertThat(PointLocationParser.tryParsePointLocation("+40-075", 0, 7, holder), is(false));
+    assertThrows(IllegalStateException.class, holder::toPointLocation);
+  }
+
+  @Test
+  public void views() throws ParserException {
+    final PointLocationHolder holder = new PointLocationHolder();
+    final CharBuffer chars = CharBuffer.wrap("x+40.5-075.25+10CRSWGS_84/y".toCharArray());
+    assertThat(PointLocationParser.tryParsePointLocation(chars, 1, 26, holder), is(true));
+    assertThat(holder.getLatitudeDegrees(), is(40.5));
+    assertThat(holder.getLongitudeDegrees(), is(-75.25));
+    assertThat(holder.getAltitude(), is(10D));
+    assertThat(holder.getCoordinateReferenceSystemIdentifier(), is("WGS_84"));
+
+    // The identifier refers to the text, so it changes with it
+    chars.put(23, 'X');
+    assertThat(holder.getCoordinateReferenceSystemIdentifier(), is("WGS_X4"));
+  }
+}
@@ -5,10 +5,14 @@
  */
 package us.fatehi.pointlocation6709.test;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.pointlocation6709.Angle;
@@ -16,6 +20,7 @@ import us.fatehi.pointlocation6709.PointLocation;
 import us.fatehi.pointlocation6709.format.FormatterException;
 import us.fatehi.pointlocation6709.format.PointLocationFormatType;
 import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
 import us.fatehi.pointlocation6709.parse.ParserException;
 import us.fatehi.pointlocation6709.parse.PointLocationParser;
 
@@ -44,6 +49,26 @@ public class TestPointLocationParser {
         ParserException.class, () -> PointLocationParser.parsePointLocation("+40121-075001/"));
   }
 
+  @Test
+  public void badPointLocation_5() {
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation("+40-075xyz/"));
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation("+40-075+3a5/"));
+  }
+
+  @Test
+  public void badPointLocationRegion() {
+    final String buffer = "+40-075/+4012-07500/";
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation(buffer, 0, 7));
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation(buffer, 8, 8));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> PointLocationParser.parsePointLocation(buffer, 8, 40));
+  }
+
   @Test
   public void invalidPointLocation_1() {
     assertThrows(
@@ -357,6 +382,55 @@ public class TestPointLocationParser {
     assertThat(formattedPointLocationString2, is("+40.20364-075.00419+2.79000/"));
   }
 
+  @Test
+  public void pointLocationRegion() throws ParserException {
+    final PointLocation expected =
+        PointLocationParser.parsePointLocation("+401213.1-0750015.1+2.79CRSxxxx/");
+
+    final String buffer = "+40-075/+401213.1-0750015.1+2.79CRSxxxx/+4012-07500/";
+    assertThat(PointLocationParser.parsePointLocation(buffer, 8, 40), is(expected));
+
+    final StringBuilder builder = new StringBuilder(buffer);
+    assertThat(PointLocationParser.parsePointLocation(builder, 8, 40), is(expected));
+
+    final CharBuffer charBuffer = CharBuffer.wrap(buffer);
+    charBuffer.position(8);
+    assertThat(PointLocationParser.parsePointLocation(charBuffer, 0, 32), is(expected));
+
+    assertThat(
+        new CoordinateParser().parseLatitude(buffer, 8, 17), is(expected.getLatitude()));
+    assertThat(
+        new CoordinateParser().parseLongitude(builder, 17, 27), is(expected.getLongitude()));
+  }
+
+  @Test
+  public void pointLocationBytes() throws ParserException {
+    final PointLocation expected =
+        PointLocationParser.parsePointLocation("+401213.1-0750015.1+2.79CRSxxxx/");
+
+    final byte[] bytes =
+        "+40-075/+401213.1-0750015.1+2.79CRSxxxx/+4012-07500/".getBytes(US_ASCII);
+    assertThat(PointLocationParser.parsePointLocation(bytes, 8, 32), is(expected));
+
+    final ByteBuffer heapBuffer = ByteBuffer.wrap(bytes, 8, 32);
+    assertThat(PointLocationParser.parsePointLocation(heapBuffer), is(expected));
+    assertThat(heapBuffer.position(), is(8));
+    assertThat(PointLocationParser.parsePointLocation(heapBuffer.slice()), is(expected));
+
+    final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip();
+    assertThat(PointLocationParser.parsePointLocation(directBuffer, 8, 32), is(expected));
+    assertThat(directBuffer.position(), is(0));
+
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation(bytes, 0, 7));
+    assertThrows(
+        ParserException.class, () -> PointLocationParser.parsePointLocation(directBuffer, 0, 9));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> PointLocationParser.parsePointLocation(bytes, 40, 20));
+  }
+
   @Test
   public void pointLocationBoundary_1() throws ParserException, FormatterException {
 
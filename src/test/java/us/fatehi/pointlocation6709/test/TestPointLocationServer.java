@@ -0,0 +1,155 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.server.PointLocationServer;
+
+public class TestPointLocationServer {
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private PointLocationServer server;
+
+  @BeforeEach
+  public void startServer() throws Exception {
+    final InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    server = new PointLocationServer(address, 4, 4096);
+    server.start();
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.close();
+  }
+
+  @Test
+  public void batchFormat() throws Exception {
+    final StringBuilder body = new StringBuilder();
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      if (i % 10 == 9) {
+        body.append("bad\r\n");
+        expected.add("ERROR");
+      } else {
+        final String line = "+" + (10 + i % 80) + "-" + (100 + i % 79) + "/";
+        body.append(line).append('\n');
+        expected.add(
+            PointLocationFormatter.formatPointLocation(
+                PointLocationParser.parsePointLocation(line), PointLocationFormatType.MEDIUM));
+      }
+    }
+
+    final HttpResponse<String> response =
+        client.send(
+            HttpRequest.newBuilder(uri("/format?type=medium"))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(),
+            HttpResponse.BodyHandlers.ofString(UTF_8));
+    assertThat(response.statusCode(), is(200));
+    final String[] lines = response.body().split("\n");
+    assertThat(lines.length, is(expected.size()));
+    for (int i = 0; i < lines.length; i++) {
+      if (expected.get(i).equals("ERROR")) {
+        assertThat(lines[i], startsWith("ERROR "));
+      } else {
+        assertThat(lines[i], is(expected.get(i)));
+      }
+    }
+    assertThat(server.getItemCount(), is(100L));
+    assertThat(server.getFailedItemCount(), is(10L));
+  }
+
+  @Test
+  public void requestTooLarge() throws Exception {
+    final String body = "+40-075/\n".repeat(1000);
+    final HttpResponse<String> response =
+        client.send(
+            HttpRequest.newBuilder(uri("/parse"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString(UTF_8));
+    assertThat(response.statusCode(), is(413));
+    assertThat(server.getRejectedRequestCount(), is(1L));
+  }
+
+  @Test
+  public void singleParse() throws Exception {
+    HttpResponse<String> response = get("/parse?location=" + encode("+40.5-075/"));
+    assertThat(response.statusCode(), is(200));
+    assertThat(
+        response.body(), is(PointLocationParser.parsePointLocation("+40.5-075/") + "\n"));
+
+    response = get("/parse?location=" + encode("+40.5-075"));
+    assertThat(response.statusCode(), is(400));
+    assertThat(response.body(), startsWith("ERROR "));
+
+    response = get("/format?type=fancy&location=" + encode("+40.5-075/"));
+    assertThat(response.statusCode(), is(400));
+
+    response = get("/parse");
+    assertThat(response.statusCode(), is(400));
+  }
+
+  @Test
+  public void statistics() throws Exception {
+    get("/parse?location=" + encode("+40-075/"));
+    get("/format?location=" + encode("+40-075/"));
+
+    final HttpResponse<String> response = get("/stats");
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.body(), containsString("requests: 2\n"));
+    assertThat(server.getRequestCount(), is(2L));
+    assertThat(server.getTotalLatencyNanos() >= server.getMaximumLatencyNanos(), is(true));
+    assertThat(server.getMaximumLatencyNanos() > 0, is(true));
+  }
+
+  @Test
+  public void unencodedPlusSign() throws Exception {
+    HttpResponse<String> response = get("/parse?location=+40-075/");
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.body(), is(PointLocationParser.parsePointLocation("+40-075/") + "\n"));
+
+    response = get("/format?type=short&location=+40-075CRS%57%47%53_84/");
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.body(), is("+40-075CRSWGS_84/\n"));
+  }
+
+  private String encode(final String value) {
+    return URLEncoder.encode(value, UTF_8);
+  }
+
+  private HttpResponse<String> get(final String path) throws Exception {
+    return client.send(
+        HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString(UTF_8));
+  }
+
+  private URI uri(final String path) {
+    final InetSocketAddress address = server.getAddress();
+    return URI.create("http://" + address.getHostString() + ":" + address.getPort() + path);
+  }
+}
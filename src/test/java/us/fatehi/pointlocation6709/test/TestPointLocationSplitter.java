@@ -8,9 +8,7 @@ package us.fatehi.pointlocation6709.test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -18,6 +16,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
 import us.fatehi.pointlocation6709.parse.PointLocationParser;
 
 public class TestPointLocationSplitter {
@@ -45,13 +45,22 @@ public class TestPointLocationSplitter {
 
   @Test
   public void split() throws Exception {
-    final Method method = PointLocationParser.class.getDeclaredMethod("split", String.class);
-    method.setAccessible(true);
-
-    final PointLocationParser parser = new PointLocationParser();
+    final CoordinateParser coordinateParser = new CoordinateParser();
     for (final Entry<String, String> testCase : testCases.entrySet()) {
-      final List<String> split = (List<String>) method.invoke(parser, testCase.getKey());
-      assertThat(StringUtils.join(split, "~"), is(testCase.getValue()));
+      final String representation = testCase.getKey();
+      final String[] split = StringUtils.splitPreserveAllTokens(testCase.getValue(), "~");
+      final PointLocation pointLocation = PointLocationParser.parsePointLocation(representation);
+      assertThat(
+          representation,
+          pointLocation.getLatitude(),
+          is(coordinateParser.parseLatitude(split[0])));
+      assertThat(
+          representation,
+          pointLocation.getLongitude(),
+          is(coordinateParser.parseLongitude(split[1])));
+      assertThat(representation, pointLocation.getAltitude(), is(Double.parseDouble(split[2])));
+      assertThat(
+          representation, pointLocation.getCoordinateReferenceSystemIdentifier(), is(split[3]));
     }
   }
 }
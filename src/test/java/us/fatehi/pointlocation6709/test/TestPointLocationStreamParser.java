@@ -0,0 +1,130 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.parse.PointLocationStreamParser;
+
+public class TestPointLocationStreamParser {
+
+  private static final String[] RECORDS = {
+    "+40-075/",
+    "+40.20361-075.00417/",
+    "\n+4012-07500/",
+    "+4012.22-07500.25CRSxxxx/",
+    " +401213-0750015/",
+    "\r\n+401213.1-0750015.1+2.79CRSxxxx/",
+  };
+
+  @Test
+  public void channel() throws IOException, ParserException {
+    final StringBuilder stream = new StringBuilder();
+    final List<PointLocation> expected = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      final String record = RECORDS[i % RECORDS.length];
+      stream.append(record);
+      expected.add(PointLocationParser.parsePointLocation(record));
+    }
+
+    final List<PointLocation> parsed = new ArrayList<>();
+    final PointLocationStreamParser parser = new PointLocationStreamParser(parsed::add);
+    final long count =
+        parser.parse(
+            Channels.newChannel(new ByteArrayInputStream(stream.toString().getBytes(US_ASCII))));
+    assertThat(count, is((long) expected.size()));
+    assertThat(parsed, is(expected));
+  }
+
+  @Test
+  public void chunksOfEverySize() throws ParserException {
+    final byte[] stream = (String.join("", RECORDS) + "bad/+40-075/\n").getBytes(US_ASCII);
+    final List<PointLocation> expected = new ArrayList<>();
+    for (final String record : RECORDS) {
+      expected.add(PointLocationParser.parsePointLocation(record));
+    }
+    expected.add(PointLocationParser.parsePointLocation("+40-075/"));
+
+    for (int chunkSize = 1; chunkSize <= stream.length; chunkSize++) {
+      final List<PointLocation> parsed = new ArrayList<>();
+      final List<ParserException> errors = new ArrayList<>();
+      final PointLocationStreamParser parser =
+          new PointLocationStreamParser(parsed::add, errors::add, 64);
+      for (int offset = 0; offset < stream.length; offset = offset + chunkSize) {
+        // Direct buffers, to check that records are not only parsed from arrays
+        final int length = Math.min(chunkSize, stream.length - offset);
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+        chunk.put(stream, offset, length).flip();
+        parser.parse(chunk);
+        assertThat(chunk.hasRemaining(), is(false));
+      }
+      parser.finish();
+
+      assertThat("Chunk size " + chunkSize, parsed, is(expected));
+      assertThat("Chunk size " + chunkSize, errors.size(), is(1));
+      assertThat(parser.getPointLocationCount(), is((long) expected.size()));
+      assertThat(parser.getErrorCount(), is(1L));
+    }
+  }
+
+  @Test
+  public void incompleteRecord() throws ParserException {
+    final List<PointLocation> parsed = new ArrayList<>();
+    final PointLocationStreamParser parser = new PointLocationStreamParser(parsed::add);
+    final byte[] bytes = "+40-075/+41-07".getBytes(US_ASCII);
+    parser.parse(bytes, 0, bytes.length);
+    assertThat(parsed.size(), is(1));
+    assertThrows(ParserException.class, parser::finish);
+
+    // Ready for a new stream
+    final byte[] next = "+41-075/  \n".getBytes(US_ASCII);
+    parser.parse(next, 0, next.length);
+    parser.finish();
+    assertThat(parsed.size(), is(2));
+  }
+
+  @Test
+  public void resumeAfterException() throws ParserException {
+    final List<PointLocation> parsed = new ArrayList<>();
+    final PointLocationStreamParser parser = new PointLocationStreamParser(parsed::add);
+    final ByteBuffer buffer = ByteBuffer.wrap("+40-075/+99-075/+41-075/".getBytes(US_ASCII));
+    assertThrows(ParserException.class, () -> parser.parse(buffer));
+    assertThat(parsed.size(), is(1));
+    assertThat(buffer.position(), is(16));
+    parser.parse(buffer);
+    assertThat(parsed.size(), is(2));
+  }
+
+  @Test
+  public void tooLong() throws ParserException {
+    final List<PointLocation> parsed = new ArrayList<>();
+    final List<ParserException> errors = new ArrayList<>();
+    final PointLocationStreamParser parser =
+        new PointLocationStreamParser(parsed::add, errors::add, 16);
+    final byte[] first = "+40-075/+40.20361".getBytes(US_ASCII);
+    final byte[] second = "-075.00417/+41-075/".getBytes(US_ASCII);
+    parser.parse(first, 0, first.length);
+    parser.parse(second, 0, second.length);
+    parser.finish();
+    assertThat(parsed.size(), is(2));
+    assertThat(errors.size(), is(1));
+  }
+}
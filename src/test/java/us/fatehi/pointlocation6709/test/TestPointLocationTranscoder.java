@@ -0,0 +1,230 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.format.FormatterException;
+import us.fatehi.pointlocation6709.format.PointLocationFormatType;
+import us.fatehi.pointlocation6709.format.PointLocationFormatter;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.parse.PointLocationTranscoder;
+
+public class TestPointLocationTranscoder {
+
+  private static final PointLocationFormatType[] FORMAT_TYPES = {
+    PointLocationFormatType.LONG,
+    PointLocationFormatType.MEDIUM,
+    PointLocationFormatType.SHORT,
+    PointLocationFormatType.DECIMAL,
+  };
+
+  private final CoordinateParser parser = new CoordinateParser();
+
+  @Test
+  public void altitudes() throws ParserException, FormatterException {
+    assertTranscoded("+40-075+1234.567891CRSWGS_84/", "MEDIUM", "+4000-07500+1234.56789CRSWGS_84/");
+    assertTranscoded("+40-075-0012.5/", "SHORT", "+40-075-12.50000/");
+    assertTranscoded("+40-075+99.999995/", "SHORT", "+40-075+100.00000/");
+    assertTranscoded("+40-075+99.999985/", "SHORT", "+40-075+99.99998/");
+    assertTranscoded("+40-075+99.9999851/", "SHORT", "+40-075+99.99999/");
+    assertTranscoded("+40-075+0.000004/", "SHORT", "+40-075+0.00000/");
+    assertTranscoded("+40-075+0.000001/", "SHORT", "+40-075/");
+    assertTranscoded("+40-075-0.0000001/", "SHORT", "+40-075/");
+    assertTranscoded("+40-075+0/", "SHORT", "+40-075/");
+    assertTranscoded("+40-075+12.CRS /", "SHORT", "+40-075+12.00000/");
+  }
+
+  @Test
+  public void badValues() {
+    final String[] representations = {
+      null, "", "+40-075", "+40/", "+95-075/", "+40+180/", "+40-075xyz/", "+4070-075/",
+    };
+    for (final String representation : representations) {
+      final ParserException expected =
+          assertThrows(
+              ParserException.class, () -> PointLocationParser.parsePointLocation(representation));
+      final ParserException actual =
+          assertThrows(
+              ParserException.class,
+              () ->
+                  PointLocationTranscoder.transcodePointLocation(
+                      representation, PointLocationFormatType.LONG),
+              representation);
+      assertThat(actual.getMessage(), is(expected.getMessage()));
+    }
+
+    assertThrows(
+        FormatterException.class,
+        () -> PointLocationTranscoder.transcodePointLocation("+40-075/", null));
+    assertThrows(
+        FormatterException.class,
+        () ->
+            PointLocationTranscoder.transcodePointLocation(
+                "+40-075/", PointLocationFormatType.HUMAN_LONG));
+    assertThrows(
+        ParserException.class,
+        () -> PointLocationTranscoder.transcodeLatitude("40°70'N", PointLocationFormatType.LONG));
+    assertThrows(
+        ParserException.class,
+        () -> PointLocationTranscoder.transcodeLongitude("+181", PointLocationFormatType.LONG));
+
+    // Nothing is appended on failure
+    final StringBuilder buffer = new StringBuilder("x");
+    assertThrows(
+        ParserException.class,
+        () ->
+            PointLocationTranscoder.transcodePointLocation(
+                "+40-075XRS/+41", 0, 11, PointLocationFormatType.LONG, buffer));
+    assertThat(buffer.toString(), is("x"));
+  }
+
+  @Test
+  public void coordinates() throws ParserException, FormatterException {
+    assertThat(
+        PointLocationTranscoder.transcodeLatitude("40°12'13\"N", PointLocationFormatType.LONG),
+        is("+401213"));
+    assertThat(
+        PointLocationTranscoder.transcodeLatitude("S 40°12.5'", PointLocationFormatType.MEDIUM),
+        is("-4013"));
+    assertThat(
+        PointLocationTranscoder.transcodeLongitude(
+            "75°0'15.1\"W", PointLocationFormatType.DECIMAL),
+        is("-075.00419"));
+    assertThat(
+        PointLocationTranscoder.transcodeLongitude("+179.9999", PointLocationFormatType.SHORT),
+        is("-180"));
+    assertThat(
+        PointLocationTranscoder.transcodeLatitude("-000000.1", PointLocationFormatType.LONG),
+        is("-000000"));
+
+    final StringBuilder buffer = new StringBuilder();
+    PointLocationTranscoder.transcodeLatitude(
+        "x+40.5y", 1, 6, PointLocationFormatType.LONG, buffer);
+    PointLocationTranscoder.transcodeLongitude(
+        "x-075.25y", 1, 8, PointLocationFormatType.LONG, buffer);
+    assertThat(buffer.toString(), is("+403000-0751500"));
+  }
+
+  @Test
+  public void decimalCarry() throws ParserException, FormatterException {
+    // A fraction that rounds up to a whole degree carries into the degrees
+    assertTranscoded("+10.999999+010.999999/", "DECIMAL", "+11.00000+011.00000/");
+    assertTranscoded("-10.999995-010.999995/", "DECIMAL", "-11.00000-011.00000/");
+    assertTranscoded("+10.999994+010.999994/", "DECIMAL", "+10.99999+010.99999/");
+    assertTranscoded("+89.999996+179.999996/", "DECIMAL", "+90.00000-180.00000/");
+    assertTranscoded("+005959.99+0005959.99/", "DECIMAL", "+01.00000+001.00000/");
+    // Rounding to whole seconds does not carry into the decimal degrees
+    assertTranscoded("+895959.6+1795959.6/", "DECIMAL", "+89.99989+179.99989/");
+    assertTranscoded("+895959.6+1795959.6/", "LONG", "+900000-1800000/");
+  }
+
+  @Test
+  public void exactRounding() throws ParserException, FormatterException {
+    assertTranscoded("+40.20361-075.00417/", "LONG", "+401213-0750015/");
+    assertTranscoded("+401213.5-0750015.5/", "LONG", "+401214-0750016/");
+    assertTranscoded("+401213.4999999999999999-07500/", "LONG", "+401213-0750000/");
+    assertTranscoded("+40.00125-075/", "LONG", "+400005-0750000/");
+    assertTranscoded("+4059.99-075/", "MEDIUM", "+4059-07500/");
+    assertTranscoded("+40.999999-075/", "DECIMAL", "+41.00000-075.00000/");
+    assertTranscoded("+40.000005-075.000015/", "DECIMAL", "+40.00000-075.00002/");
+    assertTranscoded("+40.0000050000000000001-075/", "DECIMAL", "+40.00001-075.00000/");
+  }
+
+  @Test
+  public void sameAsFormatter() throws ParserException, FormatterException {
+    final Random random = new Random(6709);
+    for (int i = 0; i < 2000; i++) {
+      final String latitude = randomCoordinate(random, 2, 89);
+      final String longitude = randomCoordinate(random, 3, 179);
+      String representation = latitude + longitude;
+      if (random.nextBoolean()) {
+        representation = representation + (random.nextBoolean() ? "+" : "-") + random.nextInt(9000);
+        if (random.nextBoolean()) {
+          representation = representation + "." + random.nextInt(100);
+        }
+      }
+      if (random.nextInt(4) == 0) {
+        representation = representation + "CRSWGS_84";
+      }
+      representation = representation + "/";
+
+      for (final PointLocationFormatType formatType : FORMAT_TYPES) {
+        assertThat(
+            representation + " " + formatType,
+            PointLocationTranscoder.transcodePointLocation(representation, formatType),
+            is(
+                PointLocationFormatter.formatPointLocation(
+                    PointLocationParser.parsePointLocation(representation), formatType)));
+      }
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      final int degrees = random.nextInt(90);
+      final int minutes = random.nextInt(60);
+      final int seconds = random.nextInt(60);
+      final String latitude =
+          degrees + "°" + minutes + "'" + seconds + "\"" + (random.nextBoolean() ? "N" : "S");
+      final String longitude = "-" + (degrees * 2) + "°" + minutes + "'" + seconds + "\"";
+      for (final PointLocationFormatType formatType : FORMAT_TYPES) {
+        assertThat(
+            latitude,
+            PointLocationTranscoder.transcodeLatitude(latitude, formatType),
+            is(PointLocationFormatter.formatLatitude(parser.parseLatitude(latitude), formatType)));
+        assertThat(
+            longitude,
+            PointLocationTranscoder.transcodeLongitude(longitude, formatType),
+            is(
+                PointLocationFormatter.formatLongitude(
+                    parser.parseLongitude(longitude), formatType)));
+      }
+    }
+  }
+
+  private void assertTranscoded(
+      final String representation, final String formatType, final String expected)
+      throws ParserException, FormatterException {
+    assertThat(
+        representation,
+        PointLocationTranscoder.transcodePointLocation(
+            representation, PointLocationFormatType.valueOf(formatType)),
+        is(expected));
+  }
+
+  /**
+   * Random coordinate in one of the compact forms, with digits that cannot fall exactly on a
+   * rounding boundary.
+   */
+  private String randomCoordinate(
+      final Random random, final int degreeLength, final int maximumDegrees) {
+    final String sign = random.nextBoolean() ? "+" : "-";
+    final String degrees = pad(random.nextInt(maximumDegrees + 1), degreeLength);
+    switch (random.nextInt(3)) {
+      case 0:
+        return sign + degrees + "." + pad(random.nextInt(10000), 4);
+      case 1:
+        return sign + degrees + pad(random.nextInt(60), 2);
+      default:
+        return sign + degrees + pad(random.nextInt(60), 2) + pad(random.nextInt(60), 2);
+    }
+  }
+
+  private String pad(final int value, final int width) {
+    final StringBuilder buffer = new StringBuilder(Integer.toString(value));
+    while (buffer.length() < width) {
+      buffer.insert(0, '0');
+    }
+    return buffer.toString();
+  }
+}
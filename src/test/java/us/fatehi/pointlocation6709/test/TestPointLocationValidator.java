@@ -0,0 +1,146 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+import us.fatehi.pointlocation6709.parse.PointLocationValidator;
+
+public class TestPointLocationValidator {
+
+  private static final String[] RECORDS = {
+    "+40-075/",
+    "+40.20361-075.00417/",
+    "+401213-0750015/",
+    "+401213.1-0750015.1/",
+    "+4012-07500/",
+    "+4012.5-07500.25/",
+    "N40W075/",
+    "+40.123456789012345678-075.12345678901234567/",
+    "  +40 -075 +350.5 CRSWGS_84 /",
+    "+40-075CRS/",
+    "+40-075+100/",
+    "+90-180/",
+    "-90+179.999999/",
+    "+90.0000001-075/",
+    "+40+180/",
+    "+40+180.00001/",
+    "+4060-07530/",
+    "+401260-0753000/",
+    "+40-075",
+    "+40/",
+    "4000/",
+    "+40-075xyz/",
+    "+40-075+/",
+    "+40-075+100+200/",
+    "+40.-075./",
+    "/",
+    "",
+    "   ",
+    "+40-075/ ",
+    "+40-075CR/",
+    "+89.99999999999999999-075/",
+    "+895959.99999999999999-1795959.99999999999999/",
+    "+4059.99999999999999999-07559.999999999999999/",
+    "+40-179.999999999999999999/",
+    "-90-180/",
+    "+091-075/",
+    "+40-181/",
+    "+40-07500000061/",
+  };
+
+  @Test
+  public void isValid() {
+    for (final String record : RECORDS) {
+      final byte[] bytes = ("xx" + record + "yy").getBytes(US_ASCII);
+      final boolean expected = PointLocationParser.tryParsePointLocation(record).isSuccess();
+      assertThat(
+          record, PointLocationValidator.isValid(bytes, 2, record.length()), is(expected));
+
+      final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+      assertThat(
+          record, PointLocationValidator.isValid(direct, 2, record.length()), is(expected));
+    }
+  }
+
+  @Test
+  public void matchesParser() {
+    final String alphabet = "+-NSEW0123456789. /CR";
+    final Random random = new Random(6709);
+    for (int i = 0; i < 50_000; i++) {
+      final StringBuilder buffer = new StringBuilder();
+      buffer.append("+-NS".charAt(random.nextInt(4)));
+      final int length = random.nextInt(40);
+      for (int j = 0; j < length; j++) {
+        // Bias towards digits, so that many records are valid
+        if (random.nextInt(3) > 0) {
+          buffer.append((char) ('0' + random.nextInt(10)));
+        } else {
+          buffer.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+      }
+      buffer.append('/');
+      final String record = buffer.toString();
+      final byte[] bytes = record.getBytes(US_ASCII);
+      assertThat(
+          record,
+          PointLocationValidator.isValid(bytes, 0, bytes.length),
+          is(PointLocationParser.tryParsePointLocation(record).isSuccess()));
+    }
+  }
+
+  @Test
+  public void nonAsciiBytes() {
+    final byte[] bytes = "+40-0µ75/".getBytes(ISO_8859_1);
+    assertThat(PointLocationValidator.isValid(bytes, 0, bytes.length), is(false));
+  }
+
+  @Test
+  public void validateLines() {
+    final StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < RECORDS.length; i++) {
+      buffer.append(RECORDS[i]).append(i % 2 == 0 ? "\n" : "\r\n");
+    }
+    final byte[] bytes = buffer.toString().getBytes(US_ASCII);
+
+    final BitSet valid = new BitSet();
+    valid.set(0, RECORDS.length);
+    final int lineCount = PointLocationValidator.validateLines(bytes, 0, bytes.length, valid);
+    assertThat(lineCount, is(RECORDS.length));
+    for (int i = 0; i < RECORDS.length; i++) {
+      assertThat(
+          RECORDS[i],
+          valid.get(i),
+          is(PointLocationParser.tryParsePointLocation(RECORDS[i]).isSuccess()));
+    }
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 4);
+    direct.put(new byte[4]).put(bytes).flip().position(4);
+    final BitSet directValid = new BitSet();
+    assertThat(PointLocationValidator.validateLines(direct, directValid), is(RECORDS.length));
+    assertThat(directValid, is(valid));
+    assertThat(direct.position(), is(4));
+  }
+
+  @Test
+  public void validateLinesWithoutTerminator() {
+    final byte[] bytes = "+40-075/\n+40+180/".getBytes(US_ASCII);
+    final BitSet valid = new BitSet();
+    assertThat(PointLocationValidator.validateLines(bytes, 0, bytes.length, valid), is(2));
+    assertThat(valid.get(0), is(true));
+    assertThat(valid.get(1), is(false));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.PointLocation;
+import us.fatehi.pointlocation6709.parse.CoordinateParser;
+import us.fatehi.pointlocation6709.parse.ParseError;
+import us.fatehi.pointlocation6709.parse.ParseStatus;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestPrimitiveParsing {
+
+  private final CoordinateParser parser = new CoordinateParser();
+
+  @Test
+  public void bulk() throws ParserException {
+    final String[] representations = {
+      "+40.20361-075.00417/",
+      "+401213.1-0750015.1+2.79CRSWGS_85/",
+      null,
+      "+95-075/",
+      "+40-075",
+      "-90+179.5-12/",
+      "+40-075xyz/",
+    };
+    final double[] latitudes = new double[representations.length + 1];
+    final double[] longitudes = new double[representations.length];
+    final double[] altitudes = new double[representations.length];
+    final List<ParseError> errors =
+        PointLocationParser.parsePointLocations(
+            representations, latitudes, longitudes, altitudes);
+
+    assertThat(errors.size(), is(4));
+    assertThat(errors.get(0).getIndex(), is(2));
+    assertThat(errors.get(0).getStatus(), is(ParseStatus.NO_VALUE));
+    assertThat(errors.get(1).getIndex(), is(3));
+    assertThat(errors.get(1).getStatus(), is(ParseStatus.LATITUDE_OUT_OF_RANGE));
+    assertThat(errors.get(2).getIndex(), is(4));
+    assertThat(errors.get(2).getStatus(), is(ParseStatus.NOT_TERMINATED));
+    assertThat(errors.get(3).getIndex(), is(6));
+    assertThat(errors.get(3).getStatus(), is(ParseStatus.UNEXPECTED_CHARACTER));
+
+    for (final int i : new int[] {0, 1, 5}) {
+      final PointLocation pointLocation =
+          PointLocationParser.parsePointLocation(representations[i]);
+      assertThat(latitudes[i], closeTo(pointLocation.getLatitude().getDegrees(), 1E-12));
+      assertThat(longitudes[i], closeTo(pointLocation.getLongitude().getDegrees(), 1E-12));
+      assertThat(altitudes[i], is(pointLocation.getAltitude()));
+    }
+    assertThat(latitudes[0], is(40.20361));
+    assertThat(longitudes[5], is(179.5));
+    for (final int i : new int[] {2, 3, 4, 6}) {
+      assertThat(Double.isNaN(latitudes[i]), is(true));
+      assertThat(Double.isNaN(longitudes[i]), is(true));
+      assertThat(Double.isNaN(altitudes[i]), is(true));
+    }
+    assertThat(latitudes[representations.length], is(0D));
+
+    // Altitudes are optional
+    assertThat(
+        PointLocationParser.parsePointLocations(representations, latitudes, longitudes, null)
+            .size(),
+        is(4));
+  }
+
+  @Test
+  public void bulkBadArguments() {
+    final String[] representations = {"+40-075/", "+41-076/"};
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PointLocationParser.parsePointLocations(null, new double[2], new double[2], null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PointLocationParser.parsePointLocations(representations, null, new double[2], null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PointLocationParser.parsePointLocations(
+                representations, new double[2], new double[1], null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            PointLocationParser.parsePointLocations(
+                representations, new double[2], new double[2], new double[1]));
+  }
+
+  @Test
+  public void coordinates() throws ParserException {
+    assertThat(parser.parseLatitudeDegrees("+40.20361"), is(40.20361));
+    assertThat(parser.parseLatitudeDegrees("-4012.2166"), closeTo(-40.20361, 1E-12));
+    assertThat(parser.parseLatitudeDegrees("40°12'13\"S"), closeTo(-40.20361, 1E-4));
+    assertThat(parser.parseLatitudeDegrees("-90"), is(-90D));
+    assertThat(parser.parseLongitudeDegrees("-075.00417"), is(-75.00417));
+    assertThat(parser.parseLongitudeDegrees("-180"), is(-180D));
+    assertThat(parser.parseLongitudeDegrees("x+179.5y", 1, 7), is(179.5));
+  }
+
+  @Test
+  public void coordinatesBadValues() {
+    for (final String value : new String[] {null, "", "+90.5", "abc", "40°70'N"}) {
+      assertThrows(ParserException.class, () -> parser.parseLatitudeDegrees(value), value);
+    }
+    for (final String value : new String[] {null, " ", "+180", "-180.1", "+075x"}) {
+      assertThrows(ParserException.class, () -> parser.parseLongitudeDegrees(value), value);
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> parser.parseLatitudeDegrees("+40", 0, 4));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Point Location 6709
+ * http://github.com/sualeh/pointlocation6709
+ * Copyright (c) 2007-2026, Sualeh Fatehi.
+ */
+package us.fatehi.pointlocation6709.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.pointlocation6709.parse.ParseResult;
+import us.fatehi.pointlocation6709.parse.ParseStatus;
+import us.fatehi.pointlocation6709.parse.ParserException;
+import us.fatehi.pointlocation6709.parse.PointLocationParser;
+
+public class TestTryParsePointLocation {
+
+  @Test
+  public void failures() {
+    assertFailure(null, ParseStatus.NO_VALUE, 0);
+    assertFailure("  ", ParseStatus.NO_VALUE, 0);
+    assertFailure("+40-075", ParseStatus.NOT_TERMINATED, 6);
+    assertFailure("+40/", ParseStatus.MISSING_COORDINATES, 3);
+    assertFailure("+40-075xyz/", ParseStatus.UNEXPECTED_CHARACTER, 7);
+    assertFailure("+4060-07530/", ParseStatus.TOO_MANY_MINUTES, 0);
+    assertFailure("+91-075/", ParseStatus.LATITUDE_OUT_OF_RANGE, 0);
+    assertFailure("+40+180/", ParseStatus.LONGITUDE_OUT_OF_RANGE, 3);
+  }
+
+  @Test
+  public void failureInRegion() {
+    final String text = "xx+4060-07530/yy";
+    final ParseResult result = PointLocationParser.tryParsePointLocation(text, 2, 14);
+    assertThat(result.isSuccess(), is(false));
+    assertThat(result.getStatus(), is(ParseStatus.TOO_MANY_MINUTES));
+    assertThat(result.getErrorOffset(), is(0));
+  }
+
+  @Test
+  public void stacklessException() {
+    final ParserException exception =
+        assertThrows(
+            ParserException.class, () -> PointLocationParser.parsePointLocation("+40-075xyz/"));
+    assertThat(exception.getStackTrace().length, is(0));
+    assertThat(exception.getMessage(), is("Cannot parse: +40-075xyz/"));
+  }
+
+  @Test
+  public void success() throws ParserException {
+    final ParseResult result = PointLocationParser.tryParsePointLocation("+40.20361-075.00417/");
+    assertThat(result.isSuccess(), is(true));
+    assertThat(result.getStatus(), is(ParseStatus.OK));
+    assertThat(
+        result.getPointLocation(),
+        is(PointLocationParser.parsePointLocation("+40.20361-075.00417/")));
+  }
+
+  private void assertFailure(
+      final String representation, final ParseStatus status, final int errorOffset) {
+    final ParseResult result = PointLocationParser.tryParsePointLocation(representation);
+    assertThat(representation, result.isSuccess(), is(false));
+    assertThat(representation, result.getStatus(), is(status));
+    assertThat(representation, result.getErrorOffset(), is(errorOffset));
+    assertThat(representation, result.getPointLocation(), is(nullValue()));
+  }
+}